@@ -0,0 +1,111 @@
+import benchmarks.MovieGame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connects the benchmarks in {@code bench/benchmarks} to the game classes, see {@link MovieGame}.
+ * Every method is a direct call into the game.
+ */
+@SuppressWarnings("unchecked")
+public class MovieGameBridge implements MovieGame {
+    private final CSVDataImporter importer = new CSVDataImporter();
+
+    @Override
+    public List<Object> generateMovies(int count, long seed) {
+        return new ArrayList<>(SyntheticMovieData.generate(count, seed));
+    }
+
+    @Override
+    public void writeCsv(List<Object> movies, String moviesCsv, String creditsCsv) throws IOException {
+        SyntheticMovieData.writeCsv((List<Movie>) (List<?>) movies, moviesCsv, creditsCsv);
+    }
+
+    @Override
+    public String clean(String name) {
+        return DataCleaner.clean(name);
+    }
+
+    @Override
+    public boolean hasWeirdChar(String name) {
+        return DataCleaner.hasWeirdChar(name);
+    }
+
+    @Override
+    public Map<Integer, Object> importDataMovie(String file) {
+        return (Map<Integer, Object>) (Map<Integer, ?>) importer.importDataMovie(file);
+    }
+
+    @Override
+    public Map<Integer, Object> importDataCredit(String file, Map<Integer, Object> movies) {
+        return (Map<Integer, Object>) (Map<Integer, ?>)
+                importer.importDataCredit(file, (Map<Integer, Movie>) (Map<Integer, ?>) movies);
+    }
+
+    @Override
+    public Object createDatabase(List<Object> movies) {
+        return new MovieDatabase((Collection<Movie>) (Collection<?>) movies);
+    }
+
+    @Override
+    public Object getMovieByTitle(Object database, String title) {
+        return ((MovieDatabase) database).getMovieByTitle(title);
+    }
+
+    @Override
+    public Object getAutocomplete(Object database) {
+        return ((MovieDatabase) database).getAutocomplete();
+    }
+
+    @Override
+    public List<?> getSuggestions(Object autocomplete, String prefix) {
+        return ((Autocomplete) autocomplete).getSuggestions(prefix);
+    }
+
+    @Override
+    public List<?> getTopSuggestions(Object autocomplete, String prefix, int k) {
+        return ((Autocomplete) autocomplete).getTopSuggestions(prefix, k);
+    }
+
+    @Override
+    public Object createStrategy(String type) {
+        return switch (type) {
+            case "Actor" -> new ActorConnection();
+            case "Director" -> new DirectorConnection();
+            case "Writer" -> new WriterConnection();
+            case "Cinematographer" -> new CinematographerConnection();
+            case "Composer" -> new ComposerConnection();
+            case "Genre" -> new GenreConnection();
+            default -> throw new IllegalArgumentException("Unknown connection type: " + type);
+        };
+    }
+
+    @Override
+    public boolean areConnected(Object strategy, Object a, Object b) {
+        return ((ConnectionStrategy) strategy).areConnected((Movie) a, (Movie) b);
+    }
+
+    @Override
+    public List<Object> getConnectedMovies(Object database, Object movie, Object strategy) {
+        return new ArrayList<>(((MovieDatabase) database).getConnectedMovies((Movie) movie, (ConnectionStrategy) strategy));
+    }
+
+    @Override
+    public List<Object> getCandidateMovies(Object database, Object movie, List<Object> strategies, List<Object> played) {
+        return new ArrayList<>(((MovieDatabase) database).getCandidateMovies((Movie) movie,
+                (List<ConnectionStrategy>) (List<?>) strategies, (List<Movie>) (List<?>) played));
+    }
+
+    @Override
+    public Object getValidStartingMovie(Object database, List<Object> strategies) {
+        return ((MovieDatabase) database).getValidStartingMovie((List<ConnectionStrategy>) (List<?>) strategies);
+    }
+
+    @Override
+    public String getTitle(Object movie) {
+        return ((Movie) movie).getTitle();
+    }
+}
@@ -0,0 +1,267 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Generates reproducible movie data of any size, shaped like the TMDB data the game ships with,
+ * for the benchmarks in {@code bench/benchmarks}.
+ * <p>
+ * The same count and seed always give the same movies. Actors and crew are drawn from pools that
+ * grow with the number of movies, with a skew towards the start of each pool, so that like in the
+ * real data a few people appear in many films and most appear in one or two.
+ * <p>
+ * Can also be run on its own to write a pair of CSV files that the game can load:
+ * {@code java SyntheticMovieData <movies> [seed] [directory]}
+ */
+public class SyntheticMovieData {
+    private static final String[] GENRES = {
+            "Action", "Adventure", "Animation", "Comedy", "Crime", "Documentary", "Drama", "Family",
+            "Fantasy", "Foreign", "History", "Horror", "Music", "Mystery", "Romance", "Science Fiction",
+            "TV Movie", "Thriller", "War", "Western"
+    };
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+            "Donald", "Ashley", "Steven", "Kimberly", "Paul", "Emily", "Andrew", "Donna", "Joshua", "Michelle"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+    private static final String[] TITLE_ADJECTIVES = {
+            "Dark", "Silent", "Last", "Lost", "Golden", "Broken", "Hidden", "Eternal", "Frozen", "Burning",
+            "Secret", "Wild", "Final", "Crimson", "Distant", "Endless", "Fallen", "Forgotten", "Haunted", "Iron",
+            "Lonely", "Midnight", "Nameless", "Perfect", "Quiet", "Restless", "Savage", "Shattered", "Silver", "Stolen",
+            "Strange", "Sudden", "Twisted", "Velvet", "Wicked", "Winter", "Young", "Brave", "Cold", "Deadly",
+            "Empty", "First", "Green", "Hollow", "Little", "Mighty", "Night", "Open", "Red", "Sweet"
+    };
+    private static final String[] TITLE_NOUNS = {
+            "City", "Kingdom", "River", "Empire", "Night", "Heart", "Road", "Island", "Storm", "Garden",
+            "Mirror", "Shadow", "Ocean", "Mountain", "Dream", "Promise", "Journey", "Legacy", "Horizon", "Voyage",
+            "Witness", "Frontier", "Harvest", "Labyrinth", "Machine", "Planet", "Prophecy", "Rebellion", "Sanctuary", "Signal",
+            "Summer", "Tower", "Valley", "Warrior", "Whisper", "Window", "Border", "Circus", "Desert", "Forest",
+            "Game", "Hunter", "Letter", "Memory", "Orchard", "Pilot", "Queen", "Station", "Thief", "Winter"
+    };
+    // crew jobs the game ignores, so the crew cells are about as noisy as the real ones
+    private static final String[] OTHER_JOBS = {
+            "Producer", "Executive Producer", "Editor", "Casting", "Screenplay", "Director of Photography",
+            "Original Music Composer", "Sound Designer", "Production Design", "Costume Design"
+    };
+
+    /**
+     * Generates movies
+     *
+     * @param count the number of movies
+     * @param seed  the random seed, the same seed always gives the same movies
+     * @return the movies, in the order their ids are assigned by {@link #writeCsv}
+     */
+    public static List<Movie> generate(int count, long seed) {
+        Random random = new Random(seed);
+        int actorPool = Math.max(100, count);
+        int crewPool = Math.max(50, count / 5);
+        int titleCombinations = TITLE_ADJECTIVES.length * TITLE_NOUNS.length;
+
+        List<Movie> movies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // walk the adjective/noun grid in a scattered order; a sequel number keeps titles unique
+            int combination = (int) ((i * 7919L) % titleCombinations);
+            String title = (i % 3 == 0 ? "" : "The ") + TITLE_ADJECTIVES[combination / TITLE_NOUNS.length] + " "
+                    + TITLE_NOUNS[combination % TITLE_NOUNS.length];
+            int sequel = i / titleCombinations;
+            if (sequel > 0) {
+                title += " " + (sequel + 1);
+            }
+
+            Set<String> actors = new LinkedHashSet<>();
+            int castSize = 3 + random.nextInt(8);
+            while (actors.size() < castSize) {
+                actors.add(person(skewed(random, actorPool)));
+            }
+            Set<String> genres = new LinkedHashSet<>();
+            int genreCount = 1 + random.nextInt(3);
+            while (genres.size() < genreCount) {
+                genres.add(GENRES[skewed(random, GENRES.length)]);
+            }
+            String director = crew(random, actorPool, crewPool);
+            String writer = random.nextInt(5) == 0 ? null : crew(random, actorPool, crewPool);
+            String cinematographer = random.nextInt(10) == 0 ? null : crew(random, actorPool, crewPool);
+            String composer = random.nextInt(10) == 0 ? null : crew(random, actorPool, crewPool);
+
+            Movie movie = new Movie(title, 1920 + random.nextInt(98), new ArrayList<>(actors),
+                    director, writer, cinematographer, composer, new ArrayList<>(genres));
+            movie.setPopularity(-Math.log(1 - random.nextDouble()) * 15);
+            movies.add(movie);
+        }
+        return movies;
+    }
+
+    /**
+     * Writes movies as a TMDB movies file and a TMDB credits file, with the same columns and
+     * JSON cells as tmdb_5000_movies.csv and tmdb_5000_credits.csv. Movie ids start at 1.
+     *
+     * @param movies     the movies
+     * @param moviesCsv  the movies file to write
+     * @param creditsCsv the credits file to write
+     * @throws IOException if a file cannot be written
+     */
+    public static void writeCsv(List<Movie> movies, String moviesCsv, String creditsCsv) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(Paths.get(moviesCsv), StandardCharsets.UTF_8)) {
+            out.write("budget,genres,homepage,id,keywords,original_language,original_title,overview,popularity,"
+                    + "production_companies,production_countries,release_date,revenue,runtime,spoken_languages,"
+                    + "status,tagline,title,vote_average,vote_count\n");
+            for (int i = 0; i < movies.size(); i++) {
+                Movie movie = movies.get(i);
+                int id = i + 1;
+                StringBuilder genres = new StringBuilder("[");
+                for (String genre : movie.getGenres()) {
+                    if (genres.length() > 1) {
+                        genres.append(", ");
+                    }
+                    genres.append("{\"id\": ").append(Arrays.asList(GENRES).indexOf(genre) + 1)
+                            .append(", \"name\": \"").append(genre).append("\"}");
+                }
+                genres.append(']');
+                String releaseDate = String.format("%d-%02d-%02d", movie.getReleaseYear(), 1 + id % 12, 1 + id % 28);
+
+                out.write("0," + quote(genres.toString()) + ",," + id + ",[],en," + quote(movie.getTitle()) + ",,"
+                        + movie.getPopularity() + ",[],[]," + releaseDate + ",0,100,[],Released,,"
+                        + quote(movie.getTitle()) + ",6.5,100\n");
+            }
+        }
+
+        Random random = new Random(movies.size());
+        try (BufferedWriter out = Files.newBufferedWriter(Paths.get(creditsCsv), StandardCharsets.UTF_8)) {
+            out.write("movie_id,title,cast,crew\n");
+            for (int i = 0; i < movies.size(); i++) {
+                Movie movie = movies.get(i);
+                StringBuilder cast = new StringBuilder("[");
+                List<String> actors = movie.getActors();
+                for (int order = 0; order < actors.size(); order++) {
+                    if (order > 0) {
+                        cast.append(", ");
+                    }
+                    cast.append("{\"cast_id\": ").append(order + 1)
+                            .append(", \"character\": \"Character ").append(order + 1)
+                            .append("\", \"credit_id\": \"c").append(i).append('x').append(order)
+                            .append("\", \"gender\": 0, \"id\": ").append(actors.get(order).hashCode() & 0x7fffffff)
+                            .append(", \"name\": \"").append(actors.get(order))
+                            .append("\", \"order\": ").append(order).append('}');
+                }
+                cast.append(']');
+
+                List<String[]> crew = new ArrayList<>();
+                addCrew(crew, "Director", movie.getDirector());
+                addCrew(crew, "Writer", movie.getWriter());
+                addCrew(crew, "Cinematographer", movie.getCinematographer());
+                addCrew(crew, "Composer", movie.getComposer());
+                int others = 4 + random.nextInt(12);
+                for (int k = 0; k < others; k++) {
+                    crew.add(new String[]{OTHER_JOBS[random.nextInt(OTHER_JOBS.length)], person(random.nextInt(100_000))});
+                }
+                Collections.shuffle(crew, random);
+                StringBuilder crewJson = new StringBuilder("[");
+                for (String[] member : crew) {
+                    if (crewJson.length() > 1) {
+                        crewJson.append(", ");
+                    }
+                    crewJson.append("{\"credit_id\": \"k").append(i).append("\", \"department\": \"Crew\", \"gender\": 0, \"id\": ")
+                            .append(member[1].hashCode() & 0x7fffffff)
+                            .append(", \"job\": \"").append(member[0])
+                            .append("\", \"name\": \"").append(member[1]).append("\"}");
+                }
+                crewJson.append(']');
+
+                out.write((i + 1) + "," + quote(movie.getTitle()) + "," + quote(cast.toString()) + ","
+                        + quote(crewJson.toString()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Writes a synthetic pair of TMDB files
+     *
+     * @param args number of movies, then optionally the seed (default 42) and the output directory
+     *             (default the current directory)
+     * @throws IOException if a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: java SyntheticMovieData <movies> [seed] [directory]");
+            return;
+        }
+        int count = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        Path directory = Paths.get(args.length > 2 ? args[2] : ".");
+        Files.createDirectories(directory);
+        writeCsv(generate(count, seed), directory.resolve("tmdb_5000_movies.csv").toString(),
+                directory.resolve("tmdb_5000_credits.csv").toString());
+        System.out.println("Wrote " + count + " movies to " + directory.toAbsolutePath());
+    }
+
+    /**
+     * Returns the name of the i-th person. Names repeat the first/last name grid with a number
+     * once the grid runs out, so every index has its own name.
+     *
+     * @param index the person index
+     * @return the name
+     */
+    private static String person(int index) {
+        int grid = FIRST_NAMES.length * LAST_NAMES.length;
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        return index < grid ? name : name + " " + (index / grid + 1);
+    }
+
+    /**
+     * Picks a crew member. Crew come after the actors, so nobody is both.
+     *
+     * @param random    the random source
+     * @param actorPool the number of actors
+     * @param crewPool  the number of crew members
+     * @return the crew member's name
+     */
+    private static String crew(Random random, int actorPool, int crewPool) {
+        return person(actorPool + skewed(random, crewPool));
+    }
+
+    /**
+     * Picks an index below size, with low indexes much more likely than high ones
+     *
+     * @param random the random source
+     * @param size   the number of choices
+     * @return the index
+     */
+    private static int skewed(Random random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u);
+    }
+
+    /**
+     * Adds a crew member if the role is filled
+     *
+     * @param crew the crew being built, as job/name pairs
+     * @param job  the job
+     * @param name the name, may be {@code null}
+     */
+    private static void addCrew(List<String[]> crew, String job, String name) {
+        if (name != null) {
+            crew.add(new String[]{job, name});
+        }
+    }
+
+    /**
+     * Quotes a CSV field
+     *
+     * @param field the field
+     * @return the field in double quotes, with inner quotes doubled
+     */
+    private static String quote(String field) {
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures title suggestions on the trie of a synthetic {@code MovieDatabase}, for prefixes from
+ * one character (huge subtrees) to a nearly complete title
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AutocompleteBenchmark {
+    @Param({"1", "5", "12"})
+    public int prefixLength;
+
+    private String[] prefixes;
+    private int next;
+
+    /**
+     * Cuts the sample titles down to prefixes
+     *
+     * @param state the database
+     */
+    @Setup(Level.Trial)
+    public void setUp(DatabaseState state) {
+        prefixes = new String[DatabaseState.SAMPLES];
+        for (int i = 0; i < prefixes.length; i++) {
+            String title = state.titles[i];
+            prefixes[i] = title.substring(0, Math.min(prefixLength, title.length()));
+        }
+    }
+
+    /**
+     * Collects every suggestion under the prefix, as the trie has always done
+     *
+     * @param state the database
+     * @return the suggestions
+     */
+    @Benchmark
+    public List<?> getSuggestions(DatabaseState state) {
+        next = (next + 1) & (DatabaseState.SAMPLES - 1);
+        return state.game.getSuggestions(state.autocomplete, prefixes[next]);
+    }
+
+    /**
+     * Finds the five most popular suggestions, as the game shows them
+     *
+     * @param state the database
+     * @return the suggestions
+     */
+    @Benchmark
+    public List<?> getTopSuggestions(DatabaseState state) {
+        next = (next + 1) & (DatabaseState.SAMPLES - 1);
+        return state.game.getTopSuggestions(state.autocomplete, prefixes[next], 5);
+    }
+}
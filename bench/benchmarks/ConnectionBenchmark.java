@@ -0,0 +1,70 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ConnectionStrategy.areConnected} for every connection type.
+ * Half of the sampled pairs are connected by that type and half are random pairs, which are
+ * almost never connected, so both the early exit and the full comparison are covered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConnectionBenchmark {
+    @Param({"Actor", "Director", "Writer", "Cinematographer", "Composer", "Genre"})
+    public String type;
+
+    private Object strategy;
+    private Object[] first;
+    private Object[] second;
+
+    /**
+     * Samples the movie pairs
+     *
+     * @param state the database
+     */
+    @Setup(Level.Trial)
+    public void setUp(DatabaseState state) {
+        MovieGame game = state.game;
+        strategy = game.createStrategy(type);
+        Random random = new Random(state.seed);
+        first = new Object[DatabaseState.SAMPLES];
+        second = new Object[DatabaseState.SAMPLES];
+        for (int i = 0; i < DatabaseState.SAMPLES; i++) {
+            first[i] = state.randomMovie(random);
+            second[i] = state.randomMovie(random);
+            if (i % 2 == 0) {
+                List<Object> connected = game.getConnectedMovies(state.database, first[i], strategy);
+                if (!connected.isEmpty()) {
+                    second[i] = connected.get(random.nextInt(connected.size()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks every sampled pair; the score is per pair
+     *
+     * @param state the database
+     * @return the number of connected pairs
+     */
+    @Benchmark
+    @OperationsPerInvocation(DatabaseState.SAMPLES)
+    public int areConnected(DatabaseState state) {
+        MovieGame game = state.game;
+        int connected = 0;
+        for (int i = 0; i < DatabaseState.SAMPLES; i++) {
+            if (game.areConnected(strategy, first[i], second[i])) {
+                connected++;
+            }
+        }
+        return connected;
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@code DataCleaner} with the original regex version in
+ * {@link LegacyDataCleaner}, on the kind of names the importer cleans: mostly plain titles and
+ * people, some with folded escapes, and a few that are dropped for other escapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataCleanerBenchmark {
+    private static final String[] NAMES = {
+            "Pirates of the Caribbean: At World's End",
+            "Sam Worthington",
+            "Renu00e9e Zellweger",
+            "James Cameron",
+            "Penu00e9lope Cruz",
+            "The Hunger Games: Mockingjay - Part 1",
+            "Guillermo del Toro",
+            "u042eu043bnu044f u0421u043dnrnpu044c",
+            "Alejandro Gonzu00e1lez Iu00f1u00e1rritu",
+            "Stanley Kubrick",
+    };
+
+    private final MovieGame game = MovieGame.load();
+
+    /**
+     * Cleans every sample name with the original regex version
+     *
+     * @param blackhole keeps the results alive
+     */
+    @Benchmark
+    public void legacyClean(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(LegacyDataCleaner.clean(name));
+        }
+    }
+
+    /**
+     * Cleans every sample name in one scan
+     *
+     * @param blackhole keeps the results alive
+     */
+    @Benchmark
+    public void clean(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(game.clean(name));
+        }
+    }
+
+    /**
+     * Checks every sample name, compiling the pattern on each call as before
+     *
+     * @param blackhole keeps the results alive
+     */
+    @Benchmark
+    public void legacyHasWeirdChar(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(LegacyDataCleaner.hasWeirdChar(name));
+        }
+    }
+
+    /**
+     * Checks every sample name with the hand-written scan
+     *
+     * @param blackhole keeps the results alive
+     */
+    @Benchmark
+    public void hasWeirdChar(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(game.hasWeirdChar(name));
+        }
+    }
+}
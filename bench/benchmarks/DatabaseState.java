@@ -0,0 +1,58 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A synthetic movie database shared by the lookup, autocomplete and connection benchmarks.
+ * Built once per fork, so only the measured calls are timed.
+ * Run with {@code -p movies=1000000} (and a larger heap) to benchmark at scale.
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+    // how many sample queries each benchmark cycles through
+    static final int SAMPLES = 1024;
+
+    @Param({"5000", "100000"})
+    public int movies;
+
+    @Param({"42"})
+    public long seed;
+
+    MovieGame game;
+    List<Object> movieList;
+    Object database;
+    Object autocomplete;
+    // titles of random movies, a quarter of them typed in lower case
+    String[] titles;
+
+    /**
+     * Generates the movies and builds the database
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = MovieGame.load();
+        movieList = game.generateMovies(movies, seed);
+        database = game.createDatabase(movieList);
+        autocomplete = game.getAutocomplete(database);
+
+        Random random = new Random(seed);
+        titles = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String title = game.getTitle(randomMovie(random));
+            titles[i] = i % 4 == 0 ? title.toLowerCase() : title;
+        }
+    }
+
+    /**
+     * Picks a random movie
+     *
+     * @param random the random source
+     * @return the movie
+     */
+    Object randomMovie(Random random) {
+        return movieList.get(random.nextInt(movieList.size()));
+    }
+}
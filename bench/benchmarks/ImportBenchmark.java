@@ -0,0 +1,75 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures importing synthetic TMDB CSV files with {@code CSVDataImporter}.
+ * The files are written once per fork to a temporary directory and deleted afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ImportBenchmark {
+    @Param({"5000", "100000"})
+    public int movies;
+
+    private MovieGame game;
+    private Path directory;
+    private String moviesCsv;
+    private String creditsCsv;
+
+    /**
+     * Writes the CSV files
+     *
+     * @throws IOException if they cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        game = MovieGame.load();
+        directory = Files.createTempDirectory("movie-import");
+        moviesCsv = directory.resolve("movies.csv").toString();
+        creditsCsv = directory.resolve("credits.csv").toString();
+        game.writeCsv(game.generateMovies(movies, 42), moviesCsv, creditsCsv);
+    }
+
+    /**
+     * Deletes the CSV files
+     *
+     * @throws IOException if they cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Path.of(moviesCsv));
+        Files.deleteIfExists(Path.of(creditsCsv));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Imports the movies file only
+     *
+     * @return the movies by id
+     */
+    @Benchmark
+    public Map<Integer, Object> importDataMovie() {
+        return game.importDataMovie(moviesCsv);
+    }
+
+    /**
+     * Imports the movies file and joins the credits to it, as the game does on a cold start
+     *
+     * @return the movies by id
+     */
+    @Benchmark
+    public Map<Integer, Object> importDataMovieAndCredit() {
+        return game.importDataCredit(creditsCsv, game.importDataMovie(moviesCsv));
+    }
+}
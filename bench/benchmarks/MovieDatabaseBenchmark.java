@@ -0,0 +1,92 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures title lookup, starting movie selection and candidate moves on a synthetic {@code MovieDatabase}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MovieDatabaseBenchmark {
+    private static final String[] TYPES = {"Actor", "Director", "Writer", "Cinematographer", "Composer", "Genre"};
+
+    // a game twenty moves in: these movies are excluded from the candidates
+    private static final int PLAYED = 20;
+
+    private List<Object> strategies;
+    private List<Object> played;
+    private int next;
+
+    /**
+     * Creates one strategy of every connection type, like a game with every type enabled
+     *
+     * @param state the database
+     */
+    @Setup(Level.Trial)
+    public void setUp(DatabaseState state) {
+        strategies = new ArrayList<>();
+        for (String type : TYPES) {
+            strategies.add(state.game.createStrategy(type));
+        }
+        Random random = new Random(state.seed);
+        played = new ArrayList<>();
+        for (int i = 0; i < PLAYED; i++) {
+            played.add(state.randomMovie(random));
+        }
+    }
+
+    /**
+     * Looks up a title the way a player types it
+     *
+     * @param state the database
+     * @return the movie
+     */
+    @Benchmark
+    public Object getMovieByTitle(DatabaseState state) {
+        next = (next + 1) & (DatabaseState.SAMPLES - 1);
+        return state.game.getMovieByTitle(state.database, state.titles[next]);
+    }
+
+    /**
+     * Looks up a title nobody has in the database
+     *
+     * @param state the database
+     * @return {@code null}
+     */
+    @Benchmark
+    public Object getMovieByTitleMissing(DatabaseState state) {
+        return state.game.getMovieByTitle(state.database, "Not A Movie In This Database");
+    }
+
+    /**
+     * Picks a starting movie that can be connected with every connection type enabled
+     *
+     * @param state the database
+     * @return the movie
+     */
+    @Benchmark
+    public Object getValidStartingMovie(DatabaseState state) {
+        return state.game.getValidStartingMovie(state.database, strategies);
+    }
+
+    /**
+     * Finds every unplayed movie sharing anyone or anything with the current movie
+     *
+     * @param state the database
+     * @return the candidates
+     */
+    @Benchmark
+    public List<Object> getCandidateMovies(DatabaseState state) {
+        next = (next + 1) & (DatabaseState.SAMPLES - 1);
+        return state.game.getCandidateMovies(state.database, played.get(next % PLAYED), strategies, played);
+    }
+}
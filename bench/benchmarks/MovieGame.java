@@ -0,0 +1,182 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The game operations the benchmarks measure.
+ * <p>
+ * JMH only accepts benchmark classes in a named package, and Java code in a named package cannot
+ * refer to the game classes in the default package. {@code MovieGameBridge}, which lives in the
+ * default package, implements this interface by calling the game directly. Game objects cross the
+ * interface as {@code Object}. Each call site only ever sees that one implementation, so the JIT
+ * inlines the calls and the benchmarks measure the game code itself.
+ */
+public interface MovieGame {
+
+    /**
+     * Loads the bridge to the game classes
+     *
+     * @return the bridge
+     */
+    static MovieGame load() {
+        try {
+            return (MovieGame) Class.forName("MovieGameBridge").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Compile src/ and bench/ together to run the benchmarks", e);
+        }
+    }
+
+    /**
+     * Generates reproducible synthetic movies, see {@code SyntheticMovieData}
+     *
+     * @param count the number of movies
+     * @param seed  the random seed
+     * @return the movies
+     */
+    List<Object> generateMovies(int count, long seed);
+
+    /**
+     * Writes movies as TMDB movie and credit CSV files
+     *
+     * @param movies     movies from {@link #generateMovies}
+     * @param moviesCsv  the movies file
+     * @param creditsCsv the credits file
+     * @throws IOException if a file cannot be written
+     */
+    void writeCsv(List<Object> movies, String moviesCsv, String creditsCsv) throws IOException;
+
+    /**
+     * Calls {@code DataCleaner.clean}
+     *
+     * @param name the name
+     * @return the cleaned name
+     */
+    String clean(String name);
+
+    /**
+     * Calls {@code DataCleaner.hasWeirdChar}
+     *
+     * @param name the name
+     * @return true if an escape sequence is left
+     */
+    boolean hasWeirdChar(String name);
+
+    /**
+     * Calls {@code CSVDataImporter.importDataMovie}
+     *
+     * @param file the movies file
+     * @return the movies by id
+     */
+    Map<Integer, Object> importDataMovie(String file);
+
+    /**
+     * Calls {@code CSVDataImporter.importDataCredit}
+     *
+     * @param file   the credits file
+     * @param movies the movies by id
+     * @return the movies by id, with cast and crew
+     */
+    Map<Integer, Object> importDataCredit(String file, Map<Integer, Object> movies);
+
+    /**
+     * Builds a {@code MovieDatabase} over the given movies
+     *
+     * @param movies the movies
+     * @return the database
+     */
+    Object createDatabase(List<Object> movies);
+
+    /**
+     * Calls {@code MovieDatabase.getMovieByTitle}
+     *
+     * @param database the database
+     * @param title    the title
+     * @return the movie or {@code null}
+     */
+    Object getMovieByTitle(Object database, String title);
+
+    /**
+     * Calls {@code MovieDatabase.getAutocomplete}
+     *
+     * @param database the database
+     * @return the shared title trie
+     */
+    Object getAutocomplete(Object database);
+
+    /**
+     * Calls {@code Autocomplete.getSuggestions}
+     *
+     * @param autocomplete the trie
+     * @param prefix       the typed prefix
+     * @return the suggestions
+     */
+    List<?> getSuggestions(Object autocomplete, String prefix);
+
+    /**
+     * Calls {@code Autocomplete.getTopSuggestions}
+     *
+     * @param autocomplete the trie
+     * @param prefix       the typed prefix
+     * @param k            the number of suggestions
+     * @return the suggestions
+     */
+    List<?> getTopSuggestions(Object autocomplete, String prefix, int k);
+
+    /**
+     * Creates the connection strategy of a type
+     *
+     * @param type "Actor", "Director", "Writer", "Cinematographer", "Composer" or "Genre"
+     * @return the strategy
+     */
+    Object createStrategy(String type);
+
+    /**
+     * Calls {@code ConnectionStrategy.areConnected}
+     *
+     * @param strategy the strategy
+     * @param a        the first movie
+     * @param b        the second movie
+     * @return true if connected
+     */
+    boolean areConnected(Object strategy, Object a, Object b);
+
+    /**
+     * Calls {@code MovieDatabase.getConnectedMovies}
+     *
+     * @param database the database
+     * @param movie    the movie
+     * @param strategy the strategy
+     * @return the connected movies
+     */
+    List<Object> getConnectedMovies(Object database, Object movie, Object strategy);
+
+    /**
+     * Calls {@code MovieDatabase.getCandidateMovies}
+     *
+     * @param database   the database
+     * @param movie      the current movie
+     * @param strategies strategies from {@link #createStrategy}
+     * @param played     the movies already played
+     * @return the unplayed connected movies
+     */
+    List<Object> getCandidateMovies(Object database, Object movie, List<Object> strategies, List<Object> played);
+
+    /**
+     * Calls {@code MovieDatabase.getValidStartingMovie}
+     *
+     * @param database   the database
+     * @param strategies strategies from {@link #createStrategy}
+     * @return the starting movie
+     */
+    Object getValidStartingMovie(Object database, List<Object> strategies);
+
+    /**
+     * Returns a movie's title
+     *
+     * @param movie the movie
+     * @return the title
+     */
+    String getTitle(Object movie);
+}
@@ -1,7 +1,3 @@
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
  * Implements a connection strategy based on shared actors between two movies.
  * Two movies are considered connected if they share at least one actor.
@@ -17,21 +13,8 @@ public class ActorConnection implements ConnectionStrategy {
      */
     @Override
     public boolean areConnected(Movie a, Movie b) {
-        List<String> actorsA = a.getActors();
-        List<String> actorsB = b.getActors();
-
-        if (actorsA == null || actorsB == null) {
-            return false;
-        }
-
-        Set<String> actorSetA = new HashSet<>(actorsA);
-        for (String actorB : actorsB) {
-            if (actorSetA.contains(actorB)) {
-                return true;
-            }
-        }
-
-        return false;
+        // a movie without an actor list has no actor ids, so it never connects
+        return IdSets.intersects(a.getActorIds(), b.getActorIds());
     }
 
     /**
@@ -45,22 +28,16 @@ public class ActorConnection implements ConnectionStrategy {
     }
 
 
+    /**
+     * Returns an actor who appears in both movies, found in the same single pass as
+     * {@link #areConnected}. If several actors are shared, the same one is always returned.
+     *
+     * @param a the first movie
+     * @param b the second movie
+     * @return a shared actor, or {@code null} if the movies share none
+     */
     @Override
     public String getSharedElement(Movie a, Movie b) {
-        List<String> actorsA = a.getActors();
-        List<String> actorsB = b.getActors();
-
-        if (actorsA == null || actorsB == null) {
-            return null;
-        }
-
-        Set<String> actorSetA = new HashSet<>(actorsA);
-        for (String actorB : actorsB) {
-            if (actorSetA.contains(actorB)) {
-                return actorB;
-            }
-        }
-
-        return null;
+        return SymbolTable.PEOPLE.name(IdSets.firstCommon(a.getActorIds(), b.getActorIds()));
     }
 }
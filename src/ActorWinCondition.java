@@ -1,3 +1,6 @@
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A win condition strategy where a player must play a certain number of movies
  * that feature a specific actor.
@@ -10,6 +13,9 @@ public class ActorWinCondition implements WinConditionStrategy {
     // private attributes for ActorWinCondition
     private String actor;
     private int requiredCount;
+    private int actorId; // the actor's id in SymbolTable.PEOPLE, NONE until a movie with the actor exists
+    private Player owner; // the player whose movies are counted as they are played
+    private int ownerCount;
 
     /**
      * Constructs an ActorWinCondition with the specified actor and count.
@@ -20,6 +26,7 @@ public class ActorWinCondition implements WinConditionStrategy {
     public ActorWinCondition(String actor, int requiredCount) {
         this.actor = actor;
         this.requiredCount = requiredCount;
+        this.actorId = SymbolTable.PEOPLE.find(actor);
     }
 
     /**
@@ -31,13 +38,75 @@ public class ActorWinCondition implements WinConditionStrategy {
      */
     @Override
     public boolean isSatisfied(Player player) {
+        return getProgress(player) >= requiredCount; // returns True if required count hit!
+    }
+
+    /**
+     * Starts counting a player's movies with the actor, including the ones already played.
+     *
+     * @param player the player this condition belongs to
+     */
+    @Override
+    public void onAttach(Player player) {
+        this.owner = player;
+        this.ownerCount = countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movie if the actor is in it.
+     *
+     * @param movie the movie the owner just played
+     */
+    @Override
+    public void onMoviePlayed(Movie movie) {
+        if (matches(movie)) {
+            ownerCount++;
+        }
+    }
+
+    /**
+     * Gets how many movies with the actor the player has played.
+     * Constant time for the player this condition belongs to; other players are counted from scratch.
+     *
+     * @param player the player to check
+     * @return the number of movies featuring the actor
+     */
+    @Override
+    public int getProgress(Player player) {
+        return player == owner ? ownerCount : countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movies featuring the actor.
+     *
+     * @param movies the movies to check
+     * @return how many of them feature the actor
+     */
+    private int countMatches(List<Movie> movies) {
         int count = 0;
-        for (Movie movie : player.getMoviesPlayed()) {
-            if (movie.getActors().contains(actor)) {
+        for (Movie movie : movies) {
+            if (matches(movie)) {
                 count++;
             }
         }
-        return count >= requiredCount; // returns True if required count hit!
+        return count;
+    }
+
+    /**
+     * Checks whether the actor is in a movie, by id.
+     * The id is looked up without adding the name; an actor no movie has is in none of them.
+     *
+     * @param movie the movie
+     * @return true if the actor appears in it
+     */
+    private boolean matches(Movie movie) {
+        if (actorId == SymbolTable.NONE) {
+            actorId = SymbolTable.PEOPLE.find(actor); // movies may have been created after this condition
+            if (actorId == SymbolTable.NONE) {
+                return false;
+            }
+        }
+        return Arrays.binarySearch(movie.getActorIds(), actorId) >= 0;
     }
 
     /**
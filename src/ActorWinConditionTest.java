@@ -66,4 +66,25 @@ public class ActorWinConditionTest {
         assertEquals(2, condition.getRequiredCount());
         assertEquals("Actor", condition.getConditionType());
     }
+
+    @Test
+    public void testProgressCountsMoviesAsTheyArePlayed() {
+        player.setWinCondition(condition);
+        player.addMovie(new Movie("Movie 1", 2000, Arrays.asList("Tom Hanks"), "", "", "", "", Collections.emptyList()));
+        player.addMovie(new Movie("Movie 2", 2001, null, "", "", "", "", Collections.emptyList()));
+        assertEquals(1, condition.getProgress(player));
+        assertFalse(player.hasWon());
+
+        player.addMovie(new Movie("Movie 3", 2002, Arrays.asList("Someone Else", "Tom Hanks"), "", "", "", "", Collections.emptyList()));
+        assertEquals(2, condition.getProgress(player));
+        assertTrue(player.hasWon());
+    }
+
+    @Test
+    public void testUnknownActorIsNotAddedAndNeverMatches() {
+        ActorWinCondition unknown = new ActorWinCondition("Nobody Ever Cast", 1);
+        player.addMovie(new Movie("Movie 1", 2000, Arrays.asList("Tom Hanks"), "", "", "", "", Collections.emptyList()));
+        assertEquals(0, unknown.getProgress(player));
+        assertEquals(SymbolTable.NONE, SymbolTable.PEOPLE.find("Nobody Ever Cast"));
+    }
 }
@@ -1,16 +1,25 @@
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 
 /**
  * Implements autocomplete using trie - reworked version from the Homework Autocomplete
  *
  * The class supports prefix-based lookup and suggestion functionality using {@link Movie} objects
- * It is case-insensitive and uses at the 256 ASCII chars
+ * It is case-insensitive and accepts any Unicode title; children are stored compactly (see {@link Node})
  * Implements the ITerm {@code ITerm} interface
  */
 public class Autocomplete implements IAutocomplete {
     private Node root;
+    // once frozen the trie never changes, so any number of threads can read it without locking
+    private volatile boolean frozen;
+    // movie -> trie-order position of its term, filled in by freeze()
+    private Map<Movie, Integer> termPositions;
 
     /**
      * Constructs an empty Autocomplete trie with a newly created root node
@@ -21,47 +30,119 @@ public class Autocomplete implements IAutocomplete {
 
     /**
      * Adds a new word associated with movie to the trie structure
+     * The movie's popularity is used as the ranking weight
      * But if it has non-valid Chars it is being ignored
      *
      * @param word  the word to add
      * @param movie the movie connected to word
+     * @throws IllegalStateException if the trie is frozen
      */
     @Override
     public void addWord(String word, Movie movie) {
+        addWord(word, movie, movie.getPopularity());
+    }
+
+    /**
+     * Adds a new word associated with movie and a ranking weight to the trie structure
+     * But if it has non-valid Chars it is being ignored
+     *
+     * @param word   the word to add
+     * @param movie  the movie connected to word
+     * @param weight the ranking weight used by {@link #getTopSuggestions(String, int)}
+     * @throws IllegalStateException if the trie is frozen
+     */
+    public void addWord(String word, Movie movie, double weight) {
+        if (frozen) {
+            throw new IllegalStateException("Autocomplete is frozen and can no longer be changed");
+        }
         //checking if word is valid -> letters only
         if (!this.validChars(word)) {
             return;
         }
-        //finding place in tree root-> down
+        //finding place in tree root-> down, raising the max weight on the way
         Node currentnode = root;
         currentnode.setPrefixes((currentnode.getPrefixes() + 1));
+        currentnode.setMaxWeight(Math.max(currentnode.getMaxWeight(), weight));
         for (int i = 0; i < word.length(); i++) {
-            char currentchar = Character.toLowerCase(word.charAt(i));
             //need to be able to match lower and upper case harry
-            int referenceindex = currentchar;
-            // if no reference, create node
-            if (currentnode.getReferences()[referenceindex] == null) {
-                currentnode.getReferences()[referenceindex] = new Node();
-            }
-            //last letter in word
-            if (i == word.length() - 1) {
-                if (currentnode.getReferences()[referenceindex] == null) {
-                    Node completeword = new Node(word, movie);
-                    completeword.setWords(1);
-                    currentnode.getReferences()[referenceindex] = completeword;
-                } else {
-                    currentnode.getReferences()[referenceindex].setWords(1);
-                    Term t = new Term(word, movie);
-                    currentnode.getReferences()[referenceindex].setTerm(t);
-                }
-            }
-            //moving forward
-            currentnode = currentnode.getReferences()[referenceindex];
+            char currentchar = Character.toLowerCase(word.charAt(i));
+            // moving forward, creating the node if there is no reference yet
+            currentnode = currentnode.addChild(currentchar);
             currentnode.setPrefixes((currentnode.getPrefixes() + 1));
+            currentnode.setMaxWeight(Math.max(currentnode.getMaxWeight(), weight));
         }
+        //last letter in word
+        if (word.length() > 0) {
+            currentnode.setWords(1);
+            currentnode.setTerm(new Term(word, movie, weight));
+        }
+    }
+    /**
+     * Makes the trie read-only: any later {@code addWord} or {@code buildTrie} call throws
+     * Lets one trie be shared safely between games, controllers and threads
+     * Also numbers the terms in trie order, so sets of movies can be given as bits (see {@link #getTermBits})
+     */
+    public synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        Map<Movie, Integer> positions = new IdentityHashMap<>();
+        numberTerms(root, 0, positions);
+        this.termPositions = positions;
+        this.frozen = true;
+    }
 
+    /**
+     * Numbers the terms of a subtree in trie order and records each node's range
+     *
+     * @param node      the subtree
+     * @param next      the first free position
+     * @param positions the map to record each term's movie in
+     * @return the next free position after the subtree
+     */
+    private int numberTerms(Node node, int next, Map<Movie, Integer> positions) {
+        int start = next;
+        if (node.getWords() == 1) {
+            positions.put(node.getTerm().getMovie(), next++);
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            next = numberTerms(node.getChildAt(i), next, positions);
+        }
+        node.setTermRange(start, next);
+        return next;
+    }
 
+    /**
+     * Turns a set of movies into bits for {@link #getTopSuggestions(String, int, BitSet)}
+     * Movies without a term of their own (e.g. a remake whose title was added later) are left out
+     *
+     * @param movies the movies to allow
+     * @return bit i is set if the i-th term in trie order belongs to one of the movies
+     * @throws IllegalStateException if the trie is not frozen yet
+     */
+    public BitSet getTermBits(Collection<Movie> movies) {
+        if (!frozen) {
+            throw new IllegalStateException("Autocomplete must be frozen before terms can be selected");
+        }
+        BitSet bits = new BitSet();
+        for (Movie movie : movies) {
+            Integer position = termPositions.get(movie);
+            if (position != null) {
+                bits.set(position);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Checks whether the trie has been made read-only
+     *
+     * @return {@code true} if {@link #freeze()} was called
+     */
+    public boolean isFrozen() {
+        return frozen;
     }
+
     /**
      * Returns the root node of the created trie
      *
@@ -72,16 +153,20 @@ public class Autocomplete implements IAutocomplete {
     }
 
     /**
-     * Checks if a word contains valid Chars (all 256 ASCII)
+     * Checks if a word contains valid Chars (any Unicode text)
+     * Only broken UTF-16, i.e. half of a surrogate pair on its own, is rejected
      *
      * @param word the word we are checking
-     * @return {@code true} if all chars are valid 256 ASCII, {@code false} otherwise
+     * @return {@code true} if the word is well-formed Unicode, {@code false} otherwise
      */
     public boolean validChars(String word) {
         for (int i = 0; i < word.length(); i++) {
-            //ASCII
-            if (word.charAt(i) > 256 || word.charAt(i) < 0) {
-                System.err.println("unexpected char " + word.charAt(i));
+            char c = word.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < word.length()
+                    && Character.isLowSurrogate(word.charAt(i + 1))) {
+                i++; // complete pair, e.g. an emoji
+            } else if (Character.isSurrogate(c)) {
+                System.err.println("unexpected char " + (int) c);
                 return false;
             }
         }
@@ -108,7 +193,6 @@ public class Autocomplete implements IAutocomplete {
 
     /**
      * Returns the node matching to the last char of the given prefix
-     * Returns {@code null} if in the prefix there are unvalid chars
      *
      * @param prefix the prefix to look up
      * @return the currentnode or {@code null} if not found
@@ -119,21 +203,37 @@ public class Autocomplete implements IAutocomplete {
         Node currentnode = root;
         for (int i = 0; i < prefix.length(); i++) {
             char c = Character.toLowerCase(prefix.charAt(i));
-            int referenceindex = c;
-            //checks for valid ASCII if not return null
-            if (referenceindex < 0 || referenceindex > 256) {
+            currentnode = currentnode.getChild(c);
+            if (currentnode == null) {
                 return null;
             }
-            if (currentnode.getReferences()[referenceindex] == null) {
-                return null;
-            }
-            currentnode = currentnode.getReferences()[referenceindex];
         }
         return currentnode;
     }
 
 
 
+    /**
+     * Starts a suggestion session that follows what a player types one key at a time
+     *
+     * @param k the number of suggestions the session returns
+     * @return a new session at the empty prefix
+     */
+    public SuggestionSession newSession(int k) {
+        return new SuggestionSession(this, k, null);
+    }
+
+    /**
+     * Starts a suggestion session that only suggests some terms, e.g. the legal moves of a turn
+     *
+     * @param k       the number of suggestions the session returns
+     * @param allowed the allowed terms from {@link #getTermBits}
+     * @return a new session at the empty prefix
+     */
+    public SuggestionSession newSession(int k, BitSet allowed) {
+        return new SuggestionSession(this, k, allowed);
+    }
+
     /**
      * Returns list of autocomplete suggestions for a Sting prefix
      * If there are no matches, empty list will be returned
@@ -167,12 +267,127 @@ public class Autocomplete implements IAutocomplete {
             //add word to suggestion list
             suggestions.add(currentnode.createCopyTerm());
         }
-        for (Node child: currentnode.getReferences()) {
-            if (child == null) {
+        //children are sorted by char, so terms come out in the same order as before
+        for (int i = 0; i < currentnode.getChildCount(); i++) {
+            helperFunction(currentnode.getChildAt(i), suggestions);
+        }
+    }
+
+    /**
+     * Returns the k highest-weighted suggestions for a prefix, best first
+     * <p>
+     * Best-first search: every node is queued with the max weight of its subtree, which is an
+     * upper bound for any term below it. A term is only handed out once nothing left in the queue
+     * can beat it, and the search stops after k terms, so only the paths to those k terms
+     * (and their siblings) are visited no matter how big the subtree is.
+     * Terms with equal weight come out in the same order as {@link #getSuggestions(String)}:
+     * ties are broken by the path below the prefix, which sorts like that walk of the trie.
+     *
+     * @param prefix the prefix to search for
+     * @param k      the maximum number of suggestions
+     * @return up to k {@link ITerm} objects, highest weight first
+     */
+    @Override
+    public List<ITerm> getTopSuggestions(String prefix, int k) {
+        return getTopSuggestions(getSubTrie(prefix), k, null);
+    }
+
+    /**
+     * Returns the k highest-weighted suggestions for a prefix among some allowed terms, best first
+     * <p>
+     * The filter is applied while searching: subtrees without any allowed term are never queued,
+     * so the k best allowed terms are found without collecting every match of the prefix first.
+     *
+     * @param prefix  the prefix to search for
+     * @param k       the maximum number of suggestions
+     * @param allowed the allowed terms from {@link #getTermBits}, or {@code null} to allow all
+     * @return up to k allowed {@link ITerm} objects, highest weight first
+     */
+    public List<ITerm> getTopSuggestions(String prefix, int k, BitSet allowed) {
+        return getTopSuggestions(getSubTrie(prefix), k, allowed);
+    }
+
+    /**
+     * Returns the k highest-weighted allowed terms below a node, best first, see {@link #getTopSuggestions(String, int)}
+     *
+     * @param start   the node of the prefix, may be {@code null}
+     * @param k       the maximum number of suggestions
+     * @param allowed the allowed terms, or {@code null} to allow all
+     * @return up to k {@link ITerm} objects, highest weight first
+     */
+    List<ITerm> getTopSuggestions(Node start, int k, BitSet allowed) {
+        List<ITerm> suggestions = new ArrayList<>();
+        if (start == null || k <= 0 || !hasAllowedTerm(start, allowed)) {
+            return suggestions;
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Candidate.BEST_FIRST);
+        queue.add(new Candidate(start, false, start.getMaxWeight(), ""));
+        while (!queue.isEmpty() && suggestions.size() < k) {
+            Candidate best = queue.poll();
+            if (best.isTerm) {
+                suggestions.add(best.node.createCopyTerm());
                 continue;
             }
-            helperFunction(child, suggestions);
+            Node node = best.node;
+            if (node.getWords() == 1 && (allowed == null || allowed.get(node.getTermStart()))) {
+                queue.add(new Candidate(node, true, node.getTerm().getWeight(), best.path));
+            }
+            for (int i = 0; i < node.getChildCount(); i++) {
+                Node child = node.getChildAt(i);
+                if (hasAllowedTerm(child, allowed)) {
+                    queue.add(new Candidate(child, false, child.getMaxWeight(), best.path + node.getKeyAt(i)));
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Checks whether a subtree holds any allowed term
+     * Its terms have consecutive positions, so this is one search in the bits
+     *
+     * @param node    the subtree
+     * @param allowed the allowed terms, or {@code null} to allow all
+     * @return {@code true} if the subtree may hold a suggestion
+     */
+    private static boolean hasAllowedTerm(Node node, BitSet allowed) {
+        if (allowed == null) {
+            return true;
+        }
+        int next = allowed.nextSetBit(node.getTermStart());
+        return next >= 0 && next < node.getTermEnd();
+    }
+
+    /**
+     * An entry in the best-first queue: either a subtree (ranked by its max weight)
+     * or a complete term (ranked by its own weight)
+     */
+    private static class Candidate {
+        // highest weight first, then trie order: a node's term, then its children by char.
+        // A subtree's path is never after the paths of its terms, so it is expanded before any of them ties.
+        static final Comparator<Candidate> BEST_FIRST = (a, b) -> {
+            int byWeight = Double.compare(b.weight, a.weight);
+            if (byWeight != 0) {
+                return byWeight;
+            }
+            int byPath = a.path.compareTo(b.path);
+            if (byPath != 0) {
+                return byPath;
+            }
+            return Boolean.compare(b.isTerm, a.isTerm);
+        };
+
+        final Node node;
+        final boolean isTerm;
+        final double weight;
+        final String path; // the chars from the search's start node down to this node
 
+        Candidate(Node node, boolean isTerm, double weight, String path) {
+            this.node = node;
+            this.isTerm = isTerm;
+            this.weight = weight;
+            this.path = path;
         }
     }
 }
\ No newline at end of file
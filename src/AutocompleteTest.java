@@ -1,5 +1,6 @@
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -62,4 +63,129 @@ public class AutocompleteTest {
         suggestions = auto.getSuggestions("Harry Potter");assertEquals(6, suggestions.size());
         assertEquals("Harry Potter and the Chamber of Secrets", suggestions.get(0).getTerm());
     }
-}
\ No newline at end of file
+
+    @org.junit.Test
+    public void testUnicodeTitles() {
+        Movie amelie = new Movie("Amélie", 2001, new ArrayList<>(), "Director", "Writer", "Cinematographer", "Composer", new ArrayList<>());
+        Movie hero = new Movie("英雄", 2002, new ArrayList<>(), "Director", "Writer", "Cinematographer", "Composer", new ArrayList<>());
+        Autocomplete auto = new Autocomplete();
+        assertTrue(auto.validChars("英雄"));
+        assertFalse(auto.validChars("bad \ud800"));
+        auto.addWord(amelie.getTitle(), amelie);
+        auto.addWord(hero.getTitle(), hero);
+
+        assertEquals("Amélie", auto.getSuggestions("amÉ").get(0).getTerm());
+        assertEquals(1, auto.getSuggestions("英").size());
+    }
+
+    @org.junit.Test
+    public void testSuggestionsInCharOrder() {
+        List<String> genres = new ArrayList<>();
+        Autocomplete auto = new Autocomplete();
+        for (String title : new String[]{"Star Wars", "Star Trek", "Stardust", "Star"}) {
+            auto.addWord(title, new Movie(title, 2000, new ArrayList<>(), "D", "W", "C", "M", genres));
+        }
+        List<ITerm> suggestions = auto.getSuggestions("star");
+        assertEquals(4, suggestions.size());
+        assertEquals("Star", suggestions.get(0).getTerm());
+        assertEquals("Star Trek", suggestions.get(1).getTerm());
+        assertEquals("Star Wars", suggestions.get(2).getTerm());
+        assertEquals("Stardust", suggestions.get(3).getTerm());
+    }
+
+    @org.junit.Test
+    public void testGetTopSuggestionsRanksByWeight() {
+        List<String> genres = new ArrayList<>();
+        Autocomplete auto = new Autocomplete();
+        String[] titles = {"Star Wars", "Star Trek", "Stardust", "Star", "Starship Troopers"};
+        double[] weights = {90, 40, 10, 5, 60};
+        for (int i = 0; i < titles.length; i++) {
+            auto.addWord(titles[i], new Movie(titles[i], 2000, new ArrayList<>(), "D", "W", "C", "M", genres), weights[i]);
+        }
+
+        List<ITerm> top = auto.getTopSuggestions("star", 3);
+        assertEquals(3, top.size());
+        assertEquals("Star Wars", top.get(0).getTerm());
+        assertEquals("Starship Troopers", top.get(1).getTerm());
+        assertEquals("Star Trek", top.get(2).getTerm());
+        assertEquals(90, top.get(0).getWeight(), 0);
+
+        assertEquals(5, auto.getTopSuggestions("star", 10).size());
+        assertTrue(auto.getTopSuggestions("star", 0).isEmpty());
+        assertTrue(auto.getTopSuggestions("moon", 5).isEmpty());
+    }
+
+    @org.junit.Test
+    public void testGetTopSuggestionsTiesKeepTrieOrder() {
+        List<String> genres = new ArrayList<>();
+        Autocomplete auto = new Autocomplete();
+        for (String title : new String[]{"Star Wars", "Star Trek", "Stardust", "Star", "Starman"}) {
+            auto.addWord(title, new Movie(title, 2000, new ArrayList<>(), "D", "W", "C", "M", genres));
+        }
+        List<ITerm> all = auto.getSuggestions("star");
+        List<ITerm> top = auto.getTopSuggestions("star", 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(all.get(i).getTerm(), top.get(i).getTerm());
+        }
+    }
+
+    @org.junit.Test
+    public void testGetTopSuggestionsTiesAcrossBranches() {
+        List<String> genres = new ArrayList<>();
+        Autocomplete auto = new Autocomplete();
+        String[] titles = {"ax", "b", "bz", "ay", "c"};
+        double[] weights = {5, 5, 9, 5, 5};
+        for (int i = 0; i < titles.length; i++) {
+            auto.addWord(titles[i], new Movie(titles[i], 2000, new ArrayList<>(), "D", "W", "C", "M", genres), weights[i]);
+        }
+        // "b" is queued while expanding "bz", but the "a" subtree still comes first in trie order
+        List<ITerm> expected = new ArrayList<>(auto.getSuggestions(""));
+        expected.sort((t1, t2) -> Double.compare(t2.getWeight(), t1.getWeight())); // stable, keeps trie order
+        List<ITerm> top = auto.getTopSuggestions("", titles.length);
+        assertEquals(expected.size(), top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(expected.get(i).getTerm(), top.get(i).getTerm());
+        }
+    }
+
+    @org.junit.Test
+    public void testFrozenTrieRejectsWords() {
+        Movie movie = new Movie("Harry Potter", 2000, new ArrayList<>(), "Director", "Writer", "Cinematographer", "Composer", new ArrayList<>());
+        Autocomplete auto = new Autocomplete();
+        auto.addWord("Harry Potter", movie);
+        auto.freeze();
+        assertTrue(auto.isFrozen());
+        try {
+            auto.addWord("Hook", movie);
+            fail("expected frozen trie to reject new words");
+        } catch (IllegalStateException e) {
+            assertEquals(1, auto.getSuggestions("h").size());
+        }
+    }
+
+    @org.junit.Test
+    public void testGetTopSuggestionsWithAllowedTerms() {
+        List<String> genres = new ArrayList<>();
+        Autocomplete auto = new Autocomplete();
+        List<Movie> allowed = new ArrayList<>();
+        String[] titles = {"Star Wars", "Star Trek", "Stardust", "Star", "Starman", "Stalker", "Up"};
+        double[] weights = {90, 80, 70, 60, 50, 40, 30};
+        for (int i = 0; i < titles.length; i++) {
+            Movie movie = new Movie(titles[i], 2000, new ArrayList<>(), "D", "W", "C", "M", genres);
+            auto.addWord(titles[i], movie, weights[i]);
+            if (i % 2 == 1) {
+                allowed.add(movie); // Star Trek, Star, Stalker
+            }
+        }
+        auto.freeze();
+        BitSet bits = auto.getTermBits(allowed);
+
+        List<ITerm> top = auto.getTopSuggestions("sta", 5, bits);
+        assertEquals(3, top.size());
+        assertEquals("Star Trek", top.get(0).getTerm());
+        assertEquals("Star", top.get(1).getTerm());
+        assertEquals("Stalker", top.get(2).getTerm());
+        assertTrue(auto.getTopSuggestions("up", 5, bits).isEmpty());
+        assertEquals(5, auto.getTopSuggestions("sta", 5, null).size());
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many seeded games between computer players on all cores and collects statistics,
+ * e.g. to tune the required counts of the win conditions without playing by hand.
+ * <p>
+ * Every game gets its own {@link GameEngine} and {@link GameState}; the {@link MovieDatabase} and
+ * the connection strategies are shared, since games only read them. Game {@code i} of a run is
+ * seeded from the run's seed and {@code i} alone, so a run gives the same report whatever the
+ * number of threads.
+ */
+public class BatchSimulator {
+    /** Games longer than this are stopped and counted as draws */
+    public static final int DEFAULT_MAX_MOVES = 500;
+    // a worker plays at most this many games before splitting the rest
+    private static final int GAMES_PER_TASK = 16;
+
+    private final MovieDatabase movieDatabase;
+    private final List<ConnectionStrategy> connectionStrategies;
+    private final WinConditionFactory winConditions;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator that runs on the common fork/join pool
+     *
+     * @param movieDatabase        the movies to play with
+     * @param connectionStrategies the connection types allowed
+     */
+    public BatchSimulator(MovieDatabase movieDatabase, List<ConnectionStrategy> connectionStrategies) {
+        this(movieDatabase, connectionStrategies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator that runs on the given pool
+     *
+     * @param movieDatabase        the movies to play with
+     * @param connectionStrategies the connection types allowed
+     * @param pool                 the pool to play the games on
+     */
+    public BatchSimulator(MovieDatabase movieDatabase, List<ConnectionStrategy> connectionStrategies, ForkJoinPool pool) {
+        this.movieDatabase = movieDatabase;
+        this.connectionStrategies = connectionStrategies;
+        this.winConditions = new WinConditionFactory(movieDatabase);
+        this.pool = pool;
+    }
+
+    /**
+     * Plays a number of games and collects their statistics.
+     * Each player gets a random win condition (genre, actor or director) at a random difficulty.
+     *
+     * @param games    how many games to play
+     * @param seed     the seed of the run
+     * @param policies the policy of each player; shared by all threads, so they must not keep state
+     * @param maxMoves the most moves per game before it is a draw
+     * @return the statistics of all games
+     */
+    public SimulationReport run(int games, long seed, List<PlayerPolicy> policies, int maxMoves) {
+        return pool.invoke(new GameBatch(0, games, seed, policies, maxMoves));
+    }
+
+    /**
+     * Plays one seeded game and adds it to a report
+     *
+     * @param game     the game's number in the run
+     * @param seed     the seed of the run
+     * @param policies the policy of each player
+     * @param maxMoves the most moves before the game is a draw
+     * @param report   the report to add the game to
+     */
+    private void playGame(int game, long seed, List<PlayerPolicy> policies, int maxMoves, SimulationReport report) {
+        Random random = new Random(seed ^ (game * 0x9E3779B97F4A7C15L)); // spread consecutive games apart
+        List<Player> players = new ArrayList<>();
+        int[] difficulties = new int[policies.size()];
+        for (int i = 0; i < policies.size(); i++) {
+            Player player = new Player("Player " + (i + 1));
+            int choice = WinConditionFactory.GENRE + random.nextInt(3);
+            difficulties[i] = WinConditionFactory.EASY + random.nextInt(3);
+            player.setWinCondition(winConditions.create(choice, difficulties[i], random));
+            players.add(player);
+        }
+
+        GameEngine engine = new GameEngine(new GameState(), movieDatabase, connectionStrategies);
+        if (!engine.start(players, random)) {
+            return; // no movie can start a game with these strategies
+        }
+        report.addGame(engine, difficulties, engine.playGame(policies, random, maxMoves));
+    }
+
+    /**
+     * A range of games, split in halves until it is small enough to play on one thread
+     */
+    @SuppressWarnings("serial") // tasks are never serialized
+    private class GameBatch extends RecursiveTask<SimulationReport> {
+        private final int from;
+        private final int to;
+        private final long seed;
+        private final List<PlayerPolicy> policies;
+        private final int maxMoves;
+
+        GameBatch(int from, int to, long seed, List<PlayerPolicy> policies, int maxMoves) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.policies = policies;
+            this.maxMoves = maxMoves;
+        }
+
+        /**
+         * Plays the games of the range, or splits it
+         *
+         * @return the statistics of the range
+         */
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationReport report = new SimulationReport();
+                for (int game = from; game < to; game++) {
+                    playGame(game, seed, policies, maxMoves, report);
+                }
+                return report;
+            }
+            int middle = (from + to) >>> 1;
+            GameBatch left = new GameBatch(from, middle, seed, policies, maxMoves);
+            left.fork();
+            SimulationReport right = new GameBatch(middle, to, seed, policies, maxMoves).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Simulates games between two random players on the TMDB data and prints the statistics.
+     * Usage: {@code java BatchSimulator [games] [seed]}
+     *
+     * @param args optional number of games (default 10000) and seed (default 42)
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+
+        MovieDatabase movieDatabase = new MovieDatabase();
+        List<ConnectionStrategy> connectionStrategies = Arrays.asList(
+                new ActorConnection(),
+                new DirectorConnection(),
+                new WriterConnection(),
+                new ComposerConnection(),
+                new CinematographerConnection(),
+                new GenreConnection()
+        );
+        PlayerPolicy policy = new RandomMovePolicy();
+
+        long start = System.nanoTime();
+        SimulationReport report = new BatchSimulator(movieDatabase, connectionStrategies)
+                .run(games, seed, Arrays.asList(policy, policy), DEFAULT_MAX_MOVES);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(report);
+        System.out.printf("%d games in %.1f s (%.0f games/s)%n", games, seconds, games / seconds);
+    }
+}
@@ -0,0 +1,64 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@code BatchSimulator}, which plays many computer games in parallel.
+ */
+public class BatchSimulatorTest {
+
+    private MovieDatabase database;
+    private List<ConnectionStrategy> strategies;
+    private List<PlayerPolicy> policies;
+
+    @Before
+    public void setUp() {
+        // every actor and director is in 10+ movies, so any win condition can be drawn
+        String[] genres = {"Action", "Comedy", "Drama", "Horror"};
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            movies.add(new Movie("Movie " + i, 2000 + i % 20, Arrays.asList("Actor " + i % 5, "Actor " + (i + 2) % 5),
+                    "Director " + i % 3, null, null, null, Arrays.asList(genres[i % 4], genres[(i / 4) % 4])));
+        }
+        database = new MovieDatabase(movies);
+        strategies = Arrays.asList(new ActorConnection(), new DirectorConnection(), new GenreConnection());
+        PlayerPolicy policy = new RandomMovePolicy();
+        policies = Arrays.asList(policy, policy);
+    }
+
+    @Test
+    public void testReportCoversEveryGame() {
+        SimulationReport report = new BatchSimulator(database, strategies).run(200, 42, policies, 100);
+
+        assertEquals(200, report.getGames());
+        assertTrue(report.getAverageGameLength() > 0);
+        long moves = 0;
+        for (long count : report.getConnectionTypeUsage().values()) {
+            moves += count;
+        }
+        assertEquals(report.getAverageGameLength() * 200, moves, 1e-6);
+        double winRate = report.getWinRate("Genre", WinConditionFactory.EASY);
+        assertTrue(winRate >= 0 && winRate <= 1);
+        assertTrue(Double.isNaN(report.getWinRate("Genre", 9)));
+    }
+
+    @Test
+    public void testSameSeedSameReportOnAnyNumberOfThreads() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            String one = new BatchSimulator(database, strategies, single).run(100, 7, policies, 100).toString();
+            String four = new BatchSimulator(database, strategies, several).run(100, 7, policies, 100).toString();
+            assertEquals(one, four);
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+}
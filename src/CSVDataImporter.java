@@ -1,23 +1,68 @@
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvMalformedLineException;
 import com.opencsv.exceptions.CsvValidationException;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 
 
 import java.io.FileReader;
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Reads movie and credit data from CSV files and takes out what is needed
  * Implements the {@link IDataImporter} interface to build a map with movie and ID
+ * <p>
+ * Each file goes through a three stage pipeline: a reader thread splits the file into batches
+ * of records, a pool of worker threads scans the JSON columns with {@link JsonCellScanner} and
+ * cleans the names of each batch, and the calling thread merges the parsed batches into the movie map in file order.
+ * The queue between the stages is bounded, so only a few batches are held in memory at a time
+ * no matter how large the file is.
  */
 
 public class CSVDataImporter implements IDataImporter {
+    // records handed to a worker at once; big enough to amortize the hand-off, small enough to balance
+    private static final int BATCH_SIZE = 256;
+    // parsed batches waiting for the merger, per worker thread
+    private static final int BATCHES_IN_FLIGHT_PER_WORKER = 2;
+
+    // columns of tmdb_5000_movies.csv
+    private static final int MOVIE_GENRES = 1;
+    private static final int MOVIE_ID = 3;
+    private static final int MOVIE_POPULARITY = 8;
+    private static final int MOVIE_RELEASE_DATE = 11;
+    private static final int MOVIE_TITLE = 17;
+    // columns of tmdb_5000_credits.csv
+    private static final int CREDIT_ID = 0;
+    private static final int CREDIT_CAST = 2;
+    private static final int CREDIT_CREW = 3;
+    // crew jobs kept from the crew column, indexes into CREW_JOBS
+    private static final String[] CREW_JOBS = {"Director", "Writer", "Cinematographer", "Composer"};
+    private static final int DIRECTOR = 0;
+    private static final int WRITER = 1;
+    private static final int CINEMATOGRAPHER = 2;
+
+    private final int workers;
+
+    /**
+     * Constructs an importer that parses with one worker thread per available processor
+     */
+    public CSVDataImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an importer with a fixed number of worker threads
+     *
+     * @param workers the number of threads parsing records, at least 1
+     */
+    public CSVDataImporter(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Need at least one worker thread: " + workers);
+        }
+        this.workers = workers;
+    }
 
     /**
      * Gets the movie data, such as title, genres, release year from a CSV file
@@ -28,271 +73,403 @@ public class CSVDataImporter implements IDataImporter {
     @Override
     public Map<Integer, Movie> importDataMovie(String file) {
         Map<Integer, Movie> hash = new HashMap<>();
-        try {
-            //trying to read and print the header
-            String[] header;
-            CSVReader reader = new CSVReader(new FileReader(file));
-            //try catch to get all the exceptions
-            try {
-                try {
-                    header = reader.readNext();
-                } catch (CsvValidationException e) {
-                    throw new RuntimeException(e);
-                }
-                //if header is not null, print it out
-                if (header != null) {
-                    System.out.println("\nHeader: " + String.join(", ", header));
-                }
-                //catching another exception
-            } catch (IOException e) {
-                System.err.println("CSV validation error while reading header: " + e.getMessage());
-                e.printStackTrace();
-                return hash;
+        runPipeline(file, this::parseMovieRow, row -> hash.put(row.id, row.movie));
+        return hash;
+    }
+
+    /**
+     * Imports cast and crew information from tmbd_5000_credits.csv and adds to existing movie map
+     *
+     * @param file   the CSV file
+     * @param movies the already there map of movies
+     * @return the updated map with cast and crew data
+     */
+    public Map<Integer, Movie> importDataCredit(String file, Map<Integer, Movie> movies) {
+        runPipeline(file, this::parseCreditRow, credit -> {
+            //checking that movie ID is real
+            Movie movie = movies.get(credit.id);
+            if (movie == null) {
+                System.err.println("Skipping credit row " + credit.rowNumber + " - Movie ID " + credit.id + " not found in movie map.");
+                return;
+            }
+            //cast or crew could not be read, so the movie can't be connected reliably
+            if (credit.actors == null) {
+                movies.remove(credit.id);
+                return;
             }
+            //add the cast and crew information to the movie object
+            movie.setActors(credit.actors);
+            movie.setDirector(credit.director);
+            movie.setWriter(credit.writer);
+            movie.setCinematographer(credit.cinematographer);
+            movie.setComposer(credit.composer);
+        });
+        return movies;
+    }
 
-            String[] nextLine;
-            int rowNumber = 1;
+    /**
+     * Parses one row of the movie CSV file. Runs on a worker thread.
+     *
+     * @param nextLine  the fields of the row
+     * @param rowNumber the row number, for error messages
+     * @return the parsed movie, or {@code null} if the row should be skipped
+     */
+    private MovieRow parseMovieRow(String[] nextLine, int rowNumber) {
+        if (nextLine.length <= MOVIE_TITLE) {
+            System.err.println("Skipping row " + rowNumber + " due to missing columns");
+            return null;
+        }
+        //getting the genre
+        String genrejson = nextLine[MOVIE_GENRES];
+        //creating a list to store genres in movie, with each genre name cleaned
+        List<String> genres = new ArrayList<>();
+        if (!JsonCellScanner.scanNames(genrejson, genrename -> genres.add(DataCleaner.clean(genrename)))) {
+            System.err.println("Skipping row " + rowNumber + " due to invalid genre JSON: " + genrejson);
+            return null;
+        }
 
-            //reading the CSV file line by line
-            while (true) {
-                try {
-                    try {
-                        //trying for the next line
-                        nextLine = reader.readNext();
-                    } catch (CsvValidationException e) {
-                        throw new RuntimeException(e);
-                    }
-                    //leave loop if end of file
-                    if (nextLine == null) break;
-                    //catching another exception
-                } catch (IOException e) {
-                    System.err.println("CSV validation error while reading row " + rowNumber + ": " + e.getMessage());
-                    e.printStackTrace();
-                    rowNumber++;
-                    continue;
-                }
-                //getting the genre
-                String genrejson = nextLine[1];
-                JSONArray genrearray;
-                try {
-                    //using JSON to parse the genre
-                    genrearray = new JSONArray(genrejson);
-                }
-                //catching an exception
-                catch (JSONException e) {
-                    System.err.println("Skipping row " + rowNumber + " due to invalid genre JSON: " + genrejson);
-                    rowNumber++;
-                    continue;
-                }
-                //not expecting any wording problems so no additional checking
+        //getting the title of movie and cleaning it
+        String title = DataCleaner.clean(nextLine[MOVIE_TITLE]);
+        //checking for weird chars
+        if (DataCleaner.hasWeirdChar(title)) {
+            return null;
+        }
+        //getting the releasedate
+        String releasedate = nextLine[MOVIE_RELEASE_DATE];
+        if (releasedate.length() == 0) {
+            return null;
+        }
+        //just release year
+        int releaseYear = parseReleaseYear(releasedate);
+        if (releaseYear < 0) {
+            System.err.println("Skipping row " + rowNumber + " due to invalid date: " + releasedate);
+            return null;
+        }
 
-                //getting the title of movie
-                String title = nextLine[17];
-                //cleaning title
-                title = DataCleaner.clean(title);
-                //checking for weird chars
-                if(DataCleaner.hasWeirdChar(title)){
-                    continue;
-                }
-                //getting the releasedate
-                String releasedate = nextLine[11];
-                if (releasedate.length() == 0) {
-                    rowNumber++;
-                    continue;
-                }
+        //getting the movie ID
+        int id;
+        try {
+            id = Integer.parseInt(nextLine[MOVIE_ID]);
+        } catch (NumberFormatException e) {
+            System.err.println("Skipping row " + rowNumber + " due to invalid ID: " + nextLine[MOVIE_ID]);
+            return null;
+        }
 
-                //getting the movie ID
-                int id = Integer.parseInt(nextLine[3]);
-                //formating the releasedate
-                SimpleDateFormat parser = new SimpleDateFormat("yyyy-MM-dd");
-                Date date;
-                try {
-                    date = parser.parse(releasedate);
-                    //catch another exception
-                } catch (ParseException e) {
-                    System.err.println("Skipping row " + rowNumber + " due to invalid date: " + releasedate);
-                    rowNumber++;
-                    continue;
-                }
-                //just release year
-                Calendar calendar = Calendar.getInstance();
-                calendar.setTime(date);
-                int releaseYear = calendar.get(Calendar.YEAR);
-                //creating a list to store genres in movie
-                List<String> genres = new ArrayList<>();
-                for (int i = 0; i < genrearray.length(); i++) {
-                    String genrename = ((JSONObject) genrearray.get(i)).getString("name");
-                    //clean genre name
-                    genres.add(DataCleaner.clean(genrename));
-                }
+        //movie object constructed
+        Movie movie = new Movie(title, releaseYear, null, null, null, null, null, genres);
+        //popularity is only used for ranking suggestions, so a bad value just means 0
+        try {
+            movie.setPopularity(Double.parseDouble(nextLine[MOVIE_POPULARITY]));
+        } catch (NumberFormatException e) {
+            movie.setPopularity(0);
+        }
+        return new MovieRow(id, movie);
+    }
 
-                //used for testing
-                //System.out.println(title);
-                //movie object constructed
-                Movie movie = new Movie(DataCleaner.clean(title), releaseYear, null, null, null, null, null, genres);
-                hash.put(id, movie);
-                rowNumber++;
+    /**
+     * Parses one row of the credits CSV file. Runs on a worker thread.
+     *
+     * @param nextLine  the fields of the row
+     * @param rowNumber the row number, for error messages
+     * @return the parsed cast and crew, or {@code null} if the row should be skipped
+     */
+    private CreditRow parseCreditRow(String[] nextLine, int rowNumber) {
+        if (nextLine.length <= CREDIT_CREW) {
+            System.err.println("Skipping credit row " + rowNumber + " due to missing columns");
+            return null;
+        }
+        int id;
+        try {
+            //getting movie id
+            id = Integer.parseInt(nextLine[CREDIT_ID]);
+        } catch (NumberFormatException e) {
+            System.err.println("Skipping credit row " + rowNumber + " due to invalid ID: " + nextLine[CREDIT_ID]);
+            return null;
+        }
+        CreditRow credit = new CreditRow(id, rowNumber);
+
+        //initializing the list for actors - empty
+        List<String> actors = new ArrayList<>();
+        //getting the cast information from the column
+        boolean castValid = JsonCellScanner.scanNames(nextLine[CREDIT_CAST], name -> {
+            String castname = DataCleaner.clean(name);
+            //cleaning for additional chars
+            if (!DataCleaner.hasWeirdChar(castname)) {
+                actors.add(castname);
             }
+        });
+        if (!castValid) {
+            return credit; // no actors: the merger removes the movie
+        }
 
-            //catch another exception
-        } catch (IOException e) {
-            System.err.println("Error reading the CSV file: " + e.getMessage());
-            throw new RuntimeException(e);
+        //getting the crew information, only the jobs we keep are turned into strings
+        String crewjson = nextLine[CREDIT_CREW];
+        boolean crewValid = JsonCellScanner.scanCrew(crewjson, CREW_JOBS, (job, name) -> {
+            String crewname = DataCleaner.clean(name);
+            //if weird char skip, the last valid crew member for a job wins
+            if (DataCleaner.hasWeirdChar(crewname)) {
+                return;
+            }
+            switch (job) {
+                case DIRECTOR -> credit.director = crewname;
+                case WRITER -> credit.writer = crewname;
+                case CINEMATOGRAPHER -> credit.cinematographer = crewname;
+                default -> credit.composer = crewname;
+            }
+        });
+        if (!crewValid) {
+            System.err.println("Skipping row " + rowNumber + " due to invalid crew JSON: " + crewjson);
+            return credit;
         }
-        return hash;
+        credit.actors = actors;
+        return credit;
     }
 
     /**
-     * Imports cast and crew information from tmbd_5000_credits.csv and adds to existing movie map
+     * Reads the year out of a {@code yyyy-MM-dd} release date without building a date object
      *
-     * @param file   the CSV file
-     * @param movies the already there map of movies
-     * @return the updated map with cast and crew data
+     * @param date the release date
+     * @return the year, or -1 if the date is not a valid {@code yyyy-MM-dd} date
      */
-    public Map<Integer, Movie> importDataCredit(String file, Map<Integer, Movie> movies) {
-        try (CSVReader reader = new CSVReader(new FileReader(file))) {
+    static int parseReleaseYear(String date) {
+        int firstDash = date.indexOf('-');
+        int secondDash = date.indexOf('-', firstDash + 1);
+        if (firstDash < 1 || secondDash < 0) {
+            return -1;
+        }
+        int year = parseDigits(date, 0, firstDash);
+        int month = parseDigits(date, firstDash + 1, secondDash);
+        int day = parseDigits(date, secondDash + 1, date.length());
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return -1;
+        }
+        return year;
+    }
 
-            // Read and print the header
-            String[] header;
-            try {
-                try {
-                    header = reader.readNext();
-                } catch (CsvValidationException e) {
-                    throw new RuntimeException(e);
-                }
-                if (header != null) {
-                    System.out.println("\nHeader: " + String.join(", ", header));
-                }
-                //catching for exceptions
-            } catch (IOException e) {
-                System.err.println("CSV validation error while reading header: " + e.getMessage());
-                e.printStackTrace();
-                return movies;
+    /**
+     * Parses a run of 1 to 4 decimal digits
+     *
+     * @param s     the string
+     * @param start first index, inclusive
+     * @param end   last index, exclusive
+     * @return the value, or -1 if the run is empty, too long or not all digits
+     */
+    private static int parseDigits(String s, int start, int end) {
+        if (end <= start || end - start > 4) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
             }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
 
-            // Read and print each line
-            String[] nextLine;
-            int rowNumber = 1;
-
-            while (true) {
-                try {
-                    try {
-                        nextLine = reader.readNext();
-                    } catch (CsvValidationException e) {
-                        //right now skipping if error is being thrown
-                        continue;
-                    } catch (CsvMalformedLineException e) {
-                        //right now skipping if error is being thrown
-                        continue;
-                    }
+    /**
+     * Runs one CSV file through the reader, worker and merger stages.
+     * The file is opened on the calling thread, so a missing file fails right away.
+     * Parsed rows are merged on the calling thread in the order they appear in the file.
+     *
+     * @param file   the CSV file
+     * @param parser turns a row and its row number into a result, or {@code null} to skip the row
+     * @param merger receives each non-null result in file order
+     * @param <T>    the type of a parsed row
+     */
+    private <T> void runPipeline(String file, RowParser<T> parser, Consumer<T> merger) {
+        CSVReader reader;
+        try {
+            reader = new CSVReader(new FileReader(file));
+        } catch (IOException e) {
+            System.err.println("Error reading the CSV file: " + e.getMessage());
+            throw new RuntimeException(e);
+        }
 
-                    if (nextLine == null) break;
-                    //catching another exception
-                } catch (IOException e) {
-                    System.err.println("CSV validation error while reading row " + rowNumber + ": " + e.getMessage());
-                    e.printStackTrace();
-                    rowNumber++;
-                    continue;
-                }
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "csv-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        BlockingQueue<Future<List<T>>> parsed = new ArrayBlockingQueue<>(workers * BATCHES_IN_FLIGHT_PER_WORKER);
+        Future<List<T>> end = CompletableFuture.completedFuture(null);
+        AtomicReference<RuntimeException> readError = new AtomicReference<>();
 
-                int id;
-                try {
-                    //getting movie id
-                    id = Integer.parseInt(nextLine[0]);
-                } catch (NumberFormatException e) {
-                    System.err.println("Skipping credit row " + rowNumber + " due to invalid ID: " + nextLine[0]);
-                    continue;
-                }
+        Thread readerThread = new Thread(() -> {
+            try (reader) {
+                readBatches(reader, parser, pool, parsed);
+            } catch (IOException | RuntimeException e) {
+                readError.set(e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e));
+            } catch (InterruptedException e) {
+                return; // the merger gave up, nobody is waiting for the end marker
+            }
+            try {
+                parsed.put(end);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "csv-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
 
-                //checking that movie ID is real
-                if (!movies.containsKey(id)) {
-                    System.err.println("Skipping credit row " + rowNumber + " - Movie ID " + id + " not found in movie map.");
-                    continue;
+        try {
+            while (true) {
+                Future<List<T>> batch = parsed.take();
+                if (batch == end) {
+                    break;
                 }
-                String castjson = nextLine[2];
-                JSONArray castarray;
-                //System.out.println("Movie id " + id);
-                try {
-                    //getting the cast information from the column
-                    castarray = new JSONArray(castjson);
-                } catch (org.json.JSONException e) {
-                    movies.remove(id);
-                    continue;
+                for (T row : batch.get()) {
+                    merger.accept(row);
                 }
+            }
+            readerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while importing " + file, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error parsing " + file, e.getCause());
+        } finally {
+            readerThread.interrupt(); // no-op once it has finished
+            pool.shutdownNow();
+        }
+        if (readError.get() != null) {
+            System.err.println("Error reading the CSV file: " + readError.get().getMessage());
+            throw readError.get();
+        }
+    }
 
-                //initializing the list for actors - empty
-                List<String> actors = new ArrayList<>();
+    /**
+     * Reader stage: splits the file into batches of rows and hands each batch to the worker pool.
+     * Blocks when the merger falls behind, which keeps memory use bounded.
+     *
+     * @param reader the open CSV file
+     * @param parser the row parser the workers run
+     * @param pool   the worker threads
+     * @param parsed the queue of pending batches, in file order
+     * @param <T>    the type of a parsed row
+     * @throws IOException          if the file cannot be read
+     * @throws InterruptedException if the merger stopped the import
+     */
+    private static <T> void readBatches(CSVReader reader, RowParser<T> parser, ExecutorService pool,
+                                        BlockingQueue<Future<List<T>>> parsed)
+            throws IOException, InterruptedException {
+        // Read and print the header
+        String[] header;
+        try {
+            header = reader.readNext();
+        } catch (CsvValidationException | CsvMalformedLineException e) {
+            System.err.println("CSV validation error while reading header: " + e.getMessage());
+            return;
+        }
+        if (header == null) {
+            return;
+        }
+        System.out.println("\nHeader: " + String.join(", ", header));
 
-                //iterating through castarray
-                for (int i = 0; i < castarray.length(); i++) {
-                    String castname = ((JSONObject) castarray.get(i)).getString("name");
-                    //cleaning
-                    castname = DataCleaner.clean(castname);
-                    //cleaning for additional chars
-                    if(DataCleaner.hasWeirdChar(castname)){
-                        continue;
-                    }
-                    actors.add(castname);
+        int rowNumber = 1;
+        int firstRowNumber = rowNumber;
+        String[][] rows = new String[BATCH_SIZE][];
+        int size = 0;
+        while (true) {
+            String[] nextLine;
+            try {
+                nextLine = reader.readNext();
+            } catch (CsvValidationException | CsvMalformedLineException e) {
+                //right now skipping if error is being thrown
+                System.err.println("CSV validation error while reading row " + rowNumber + ": " + e.getMessage());
+                rowNumber++;
+                continue;
+            }
+            if (nextLine != null) {
+                if (size == 0) {
+                    firstRowNumber = rowNumber;
                 }
+                rows[size++] = nextLine;
+                rowNumber++;
+            }
+            if (size == BATCH_SIZE || (nextLine == null && size > 0)) {
+                parsed.put(submitBatch(pool, parser, rows, size, firstRowNumber));
+                rows = new String[BATCH_SIZE][];
+                size = 0;
+            }
+            if (nextLine == null) {
+                return;
+            }
+        }
+    }
 
-                //getting the crew information
-                String crewjson = nextLine[3];
-                JSONArray crewarray;
-                try {
-                    crewarray = new JSONArray(crewjson);
-                    //catching the exception
-                } catch (JSONException e) {
-                    System.err.println("Skipping row " + rowNumber + " due to invalid crew JSON: " + crewjson);
-                    movies.remove(id);
-                    rowNumber++;
-                    continue;
+    /**
+     * Worker stage: parses one batch of rows on the pool.
+     *
+     * @param pool           the worker threads
+     * @param parser         the row parser
+     * @param rows           the rows of the batch
+     * @param size           how many entries of {@code rows} are filled
+     * @param firstRowNumber the row number of {@code rows[0]}
+     * @param <T>            the type of a parsed row
+     * @return the pending list of parsed rows, without skipped rows
+     */
+    private static <T> Future<List<T>> submitBatch(ExecutorService pool, RowParser<T> parser,
+                                                   String[][] rows, int size, int firstRowNumber) {
+        return pool.submit(() -> {
+            List<T> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                T result = parser.parse(rows[i], firstRowNumber + i);
+                if (result != null) {
+                    results.add(result);
                 }
-                String director = null;
-                String writer = null;
-                String cinematographer = null;
-                String composer = null;
+            }
+            return results;
+        });
+    }
 
-                //looping through each crew member and add to it if it is the certain crew like director, writer, cinematographer,...
-                for (int i = 0; i < crewarray.length(); i++) {
-                    //cleaning
-                    String crewname = DataCleaner.clean(((JSONObject) crewarray.get(i)).getString("name"));
-                    String crewjob = DataCleaner.clean(((JSONObject) crewarray.get(i)).getString("job"));
-                    //if weird char skip
-                    if(DataCleaner.hasWeirdChar(crewname)){
-                        continue;
-                    }
-                    if (crewjob.equalsIgnoreCase("director")) {
-                        director = crewname;
-                        continue;
-                    }
-                    if (crewjob.equalsIgnoreCase("writer")) {
-                        writer = crewname;
-                        continue;
-                    }
-                    if (crewjob.equalsIgnoreCase("cinematographer")) {
-                        cinematographer = crewname;
-                        continue;
-                    }
-                    if (crewjob.equalsIgnoreCase("composer")) {
-                        composer = crewname;
-                    }
-                }
-                //add the cast and crew information to the movie object
-                movies.get(id).setActors(actors);
-                movies.get(id).setDirector(director);
-                movies.get(id).setWriter(writer);
-                movies.get(id).setCinematographer(cinematographer);
-                movies.get(id).setComposer(composer);
+    /**
+     * Parses one CSV row on a worker thread
+     *
+     * @param <T> the type of a parsed row
+     */
+    @FunctionalInterface
+    private interface RowParser<T> {
+        /**
+         * Parses a row
+         *
+         * @param row       the fields of the row
+         * @param rowNumber the row number, for error messages
+         * @return the parsed row, or {@code null} to skip it
+         */
+        T parse(String[] row, int rowNumber);
+    }
 
-                rowNumber++;
-            }
+    /**
+     * A parsed row of the movie file
+     */
+    private static class MovieRow {
+        private final int id;
+        private final Movie movie;
 
-            //catch the exception
-        } catch (IOException e) {
-            System.err.println("Error reading the CSV file: " + e.getMessage());
-            throw new RuntimeException(e);
+        private MovieRow(int id, Movie movie) {
+            this.id = id;
+            this.movie = movie;
         }
-        return movies;
     }
-}
 
+    /**
+     * A parsed row of the credits file, waiting to be joined to its movie by id
+     */
+    private static class CreditRow {
+        private final int id;
+        private final int rowNumber;
+        private List<String> actors; // null if the cast or crew JSON was invalid
+        private String director;
+        private String writer;
+        private String cinematographer;
+        private String composer;
+
+        private CreditRow(int id, int rowNumber) {
+            this.id = id;
+            this.rowNumber = rowNumber;
+        }
+    }
+}
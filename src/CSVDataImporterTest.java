@@ -2,6 +2,8 @@
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 public class CSVDataImporterTest {
 
@@ -122,4 +124,53 @@ public class CSVDataImporterTest {
         List<String> actors = t.getActors();
         assertTrue(!actors.isEmpty());
     }
-}
\ No newline at end of file
+
+    @org.junit.Test
+    public void testParseReleaseYear() {
+        assertEquals(2009, CSVDataImporter.parseReleaseYear("2009-07-07"));
+        assertEquals(1997, CSVDataImporter.parseReleaseYear("1997-1-9"));
+        assertEquals(-1, CSVDataImporter.parseReleaseYear("a"));
+        assertEquals(-1, CSVDataImporter.parseReleaseYear("2009"));
+        assertEquals(-1, CSVDataImporter.parseReleaseYear("2009-13-01"));
+        assertEquals(-1, CSVDataImporter.parseReleaseYear("2009-07-07x"));
+    }
+
+    @org.junit.Test
+    public void testPipelineKeepsEveryRowAcrossBatches() throws IOException {
+        int count = 1000;
+        StringBuilder movieCsv = new StringBuilder("budget,genres,homepage,id,keywords,original_language,original_title,overview,"
+                + "popularity,production_companies,production_countries,release_date,revenue,runtime,spoken_languages,"
+                + "status,tagline,title,vote_average,vote_count\n");
+        StringBuilder creditCsv = new StringBuilder("movie_id,title,cast,crew\n");
+        for (int id = 1; id <= count; id++) {
+            movieCsv.append("0,\"[{\"\"id\"\": 18, \"\"name\"\": \"\"Drama\"\"}]\",,").append(id)
+                    .append(",[],en,Movie ").append(id).append(",,").append(id).append(".5,[],[],")
+                    .append(1900 + id % 100).append("-01-01,0,90,[],Released,,Movie ").append(id).append(",7,10\n");
+            creditCsv.append(id).append(",Movie ").append(id)
+                    .append(",\"[{\"\"name\"\": \"\"Actor ").append(id).append("\"\"}]\"")
+                    .append(",\"[{\"\"job\"\": \"\"Director\"\", \"\"name\"\": \"\"Director ").append(id % 7).append("\"\"}]\"\n");
+        }
+        // a later row with the same id replaces the earlier one, as in a single-threaded import
+        creditCsv.append("1,Movie 1,\"[{\"\"name\"\": \"\"Late Actor\"\"}]\",\"[]\"\n");
+        File movies = File.createTempFile("movies", ".csv");
+        File credits = File.createTempFile("credits", ".csv");
+        movies.deleteOnExit();
+        credits.deleteOnExit();
+        Files.write(movies.toPath(), movieCsv.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(credits.toPath(), creditCsv.toString().getBytes(StandardCharsets.UTF_8));
+
+        CSVDataImporter importer = new CSVDataImporter(4);
+        Map<Integer, Movie> temp = importer.importDataCredit(credits.getPath(), importer.importDataMovie(movies.getPath()));
+
+        assertEquals(count, temp.size());
+        Movie last = temp.get(count);
+        assertEquals("Movie 1000", last.getTitle());
+        assertEquals(1900, last.getReleaseYear());
+        assertEquals(1000.5, last.getPopularity(), 0);
+        assertEquals(Arrays.asList("Drama"), last.getGenres());
+        assertEquals(Arrays.asList("Actor 1000"), last.getActors());
+        assertEquals("Director 6", last.getDirector());
+        assertEquals(Arrays.asList("Late Actor"), temp.get(1).getActors());
+        assertNull(temp.get(1).getDirector());
+    }
+}
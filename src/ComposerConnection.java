@@ -15,15 +15,10 @@ public class ComposerConnection implements ConnectionStrategy {
      */
     @Override
     public boolean areConnected(Movie a, Movie b) {
-        // extracts composers from both movies
-        String composerA = a.getComposer();
-        String composerB = b.getComposer();
-        // makes sure composer field is valid
-        if (composerA == null || composerB == null) {
-            return false;
-        }
-        // returns if connection is valide!
-        return composerA.equals(composerB);
+        // equal names have equal ids
+        int composerA = a.getComposerId();
+        // a missing composer (NONE) never connects
+        return composerA != SymbolTable.NONE && composerA == b.getComposerId();
     }
 
     /**
@@ -41,9 +36,7 @@ public class ComposerConnection implements ConnectionStrategy {
     @Override
     public String getSharedElement(Movie a, Movie b) {
         // returns composer to check if we have used it < 3 times
-        String composerA = a.getComposer();
-        String composerB = b.getComposer();
-        return (composerA != null && composerB != null && composerA.equals(composerB)) ? composerA : null;
+        return areConnected(a, b) ? a.getComposer() : null;
     }
 
 
@@ -1,4 +1,7 @@
-import java.util.regex.Matcher;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -6,28 +9,57 @@ import java.util.regex.Pattern;
  * and checking for unusual characters
  */
 public class DataCleaner {
+    // combining marks left over after splitting accented letters apart (e.g. the accent in "é")
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Unicode escapes that lost their backslash in the CSV export, and the ASCII letter each one
+    // becomes so people can type it in. The four characters after the 'u' are packed into one long
+    // (see pack) and kept sorted, so a lookup is a binary search with no allocation.
+    private static final String[][] FOLDS = {
+            {"00e9", "e"}, {"00c8", "E"}, {"00e1", "a"}, {"00f1", "n"}, {"00f3", "o"},
+            //added onto additional testing
+            {"043D", "H"}, {"0438", "n"}, {"0433", "r"}, {"0440", "p"}, {"044C", "b"},
+    };
+    private static final long[] FOLD_KEYS = new long[FOLDS.length];
+    private static final char[] FOLD_CHARS = new char[FOLDS.length];
+
+    static {
+        String[][] sorted = FOLDS.clone();
+        Arrays.sort(sorted, Comparator.comparingLong(fold -> pack(fold[0], 0)));
+        for (int i = 0; i < sorted.length; i++) {
+            FOLD_KEYS[i] = pack(sorted[i][0], 0);
+            FOLD_CHARS[i] = sorted[i][1].charAt(0);
+        }
+    }
+
     /**
      * Cleans string by replacing a specific Unicode with the matching ASCII char
+     * Works in one scan: every "uXXXX" sequence is looked up in the fold table, and a new String
+     * is only built if something was actually replaced.
      *
      * @param origional the original string containing Unicode
      * @return a cleaned string that only has ASCII char
      */
     public static String clean(String origional){
-        //replacing with plain letter e -> people can type it in
-        String result = origional.replaceAll("u00e9", "e");
-        result = result.replaceAll("u00c8", "E");
-         result = result.replaceAll("u00e1", "a");
-         result = result.replaceAll("u00f1", "n");
-         result = result.replaceAll("u00f3", "o");
-         //added onto additional testing
-        result = result.replaceAll("u043D", "H");
-        result = result.replaceAll("u0438", "n");
-        result = result.replaceAll("u0433", "r");
-        result = result.replaceAll("u0440", "p");
-        result = result.replaceAll("u044C", "b");
-
-
-        return result;
+        StringBuilder result = null;
+        int copied = 0;
+        int last = origional.length() - 5;
+        for (int i = origional.indexOf('u'); i >= 0 && i <= last; i = origional.indexOf('u', i + 1)) {
+            int fold = Arrays.binarySearch(FOLD_KEYS, pack(origional, i + 1));
+            if (fold < 0) {
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(origional.length());
+            }
+            result.append(origional, copied, i).append(FOLD_CHARS[fold]);
+            copied = i + 5;
+            i += 4;
+        }
+        if (result == null) {
+            return origional;
+        }
+        return result.append(origional, copied, origional.length()).toString();
     }
 
     /**
@@ -38,10 +70,51 @@ public class DataCleaner {
      * @return true if the string contains any unicode, false otherwise
      */
     public static boolean hasWeirdChar(String original) {
-        Pattern p = Pattern.compile("u[0-9a-fA-F]{4}");
-        Matcher m = p.matcher(original);
-        return m.find();
+        int last = original.length() - 5;
+        for (int i = original.indexOf('u'); i >= 0 && i <= last; i = original.indexOf('u', i + 1)) {
+            if (isHex(original.charAt(i + 1)) && isHex(original.charAt(i + 2))
+                    && isHex(original.charAt(i + 3)) && isHex(original.charAt(i + 4))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Packs four characters into one long, case kept, for the fold table
+     *
+     * @param s     the string
+     * @param start index of the first of the four characters
+     * @return the packed characters
+     */
+    private static long pack(String s, int start) {
+        return (long) s.charAt(start) << 48 | (long) s.charAt(start + 1) << 32
+                | (long) s.charAt(start + 2) << 16 | s.charAt(start + 3);
     }
 
+    /**
+     * Checks for a hexadecimal digit, either case
+     *
+     * @param c the character
+     * @return true for 0-9, a-f and A-F
+     */
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Normalizes a string into a lookup key so that titles match regardless of case or accents.
+     * Applies {@link #clean(String)} first, then folds accented letters to plain ones and lower-cases
+     * the result, so "Amélie", "Ameu00e9lie" and "AMELIE" all give the same key.
+     *
+     * @param original the string to normalize
+     * @return the lookup key
+     */
+    public static String toSearchKey(String original) {
+        String result = clean(original);
+        result = Normalizer.normalize(result, Normalizer.Form.NFD);
+        result = COMBINING_MARKS.matcher(result).replaceAll("");
+        return result.toLowerCase(Locale.ROOT);
+    }
 
 }
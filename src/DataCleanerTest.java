@@ -16,4 +16,35 @@ public class DataCleanerTest {
     public void testClean() {
         assertEquals("Renee Zellweger", DataCleaner.clean("Renu00e9e Zellweger"));
     }
+
+    @org.junit.Test
+    public void testToSearchKey() {
+        assertEquals("renee zellweger", DataCleaner.toSearchKey("Renu00e9e Zellweger"));
+        assertEquals("amelie", DataCleaner.toSearchKey("Amélie"));
+        assertEquals(DataCleaner.toSearchKey("AMÉLIE"), DataCleaner.toSearchKey("amelie"));
+    }
+
+    @org.junit.Test
+    public void testCleanReplacesEverySequence() {
+        assertEquals("Hnrpb Ea no", DataCleaner.clean("u043Du0438u0433u0440u044C u00c8u00e1 u00f1u00f3"));
+        assertEquals("ue", DataCleaner.clean("uu00e9"));
+        assertEquals("u00e", DataCleaner.clean("u00e"));
+        // case matters: only the exact sequences are folded
+        assertEquals("u043d", DataCleaner.clean("u043d"));
+    }
+
+    @org.junit.Test
+    public void testCleanWithoutSequencesReturnsSameString() {
+        String title = "The Usual Suspects";
+        assertSame(title, DataCleaner.clean(title));
+    }
+
+    @org.junit.Test
+    public void testHasWeirdCharNeedsFourHexDigits() {
+        assertFalse(DataCleaner.hasWeirdChar("Ursula Andress"));
+        assertFalse(DataCleaner.hasWeirdChar("u12g4"));
+        assertFalse(DataCleaner.hasWeirdChar("abu123"));
+        assertTrue(DataCleaner.hasWeirdChar("abu123F"));
+        assertTrue(DataCleaner.hasWeirdChar("uuAbCd"));
+    }
 }
@@ -15,15 +15,10 @@ public class DirectorConnection implements ConnectionStrategy {
      */
     @Override
     public boolean areConnected(Movie a, Movie b) {
-        // extracts directors of boht movies
-        String directorA = a.getDirector();
-        String directorB = b.getDirector();
-        // makes sure director fields are actually valid
-        if (directorA == null || directorB == null) {
-            return false;
-        }
-        // returns if connection is valid
-        return directorA.equalsIgnoreCase(directorB);
+        // director ids ignore case, so equal ids mean the names are equal ignoring case
+        int directorA = a.getDirectorId();
+        // a missing director (NONE) never connects
+        return directorA != SymbolTable.NONE && directorA == b.getDirectorId();
     }
 
     /**
@@ -50,8 +45,6 @@ public class DirectorConnection implements ConnectionStrategy {
     @Override
     public String getSharedElement(Movie a, Movie b) {
         // check if connection is valid (< 3 times)
-        String dirA = a.getDirector();
-        String dirB = b.getDirector();
-        return (dirA != null && dirB != null && dirA.equalsIgnoreCase(dirB)) ? dirA : null;
+        return areConnected(a, b) ? a.getDirector() : null;
     }
 }
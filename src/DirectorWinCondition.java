@@ -1,3 +1,5 @@
+import java.util.List;
+
 /**
  * Represents a win condition based on movies directed by a specific director.
  * A player satisfies this condition if they have played at least a specified number
@@ -7,6 +9,8 @@ public class DirectorWinCondition implements WinConditionStrategy {
     // private field initialisation
     private String director;
     private int requiredCount;
+    private Player owner; // the player whose movies are counted as they are played
+    private int ownerCount;
 
     /**
      * Constructs a {@code DirectorWinCondition} with a specific director and count requirement.
@@ -30,15 +34,60 @@ public class DirectorWinCondition implements WinConditionStrategy {
      */
     @Override
     public boolean isSatisfied(Player player) {
+        // returns if target hit!
+        return getProgress(player) >= requiredCount; // returns true if required count is reached!
+    }
+
+    /**
+     * Starts counting a player's movies by the director, including the ones already played.
+     *
+     * @param player the player this condition belongs to
+     */
+    @Override
+    public void onAttach(Player player) {
+        this.owner = player;
+        this.ownerCount = countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movie if it was directed by the director.
+     *
+     * @param movie the movie the owner just played
+     */
+    @Override
+    public void onMoviePlayed(Movie movie) {
+        if (director.equalsIgnoreCase(movie.getDirector())) {
+            ownerCount++;
+        }
+    }
+
+    /**
+     * Gets how many movies by the director the player has played.
+     * Constant time for the player this condition belongs to; other players are counted from scratch.
+     *
+     * @param player the player to check
+     * @return the number of movies with the director
+     */
+    @Override
+    public int getProgress(Player player) {
+        return player == owner ? ownerCount : countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movies directed by the director.
+     *
+     * @param movies the movies to check
+     * @return how many of them the director directed
+     */
+    private int countMatches(List<Movie> movies) {
         int count = 0;
         // keeps count of all movies user played and increments each time movie played with given director
-        for (Movie movie : player.getMoviesPlayed()) {
-            if (director.equalsIgnoreCase(movie.getDirector())) {   
+        for (Movie movie : movies) {
+            if (director.equalsIgnoreCase(movie.getDirector())) {
                 count++;
             }
         }
-        // returns if target hit!
-        return count >= requiredCount; // returns true if required count is reached!
+        return count;
     }
 
     /**
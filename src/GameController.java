@@ -1,5 +1,7 @@
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -13,33 +15,61 @@ import com.googlecode.lanterna.input.KeyStroke;
  * It's like the conductor of the game orchestrating the logic and functions!
  */
 public class GameController {
+    // suggestions are looked up once no key has been typed for this long
+    private static final long SUGGESTION_DELAY_MS = 30;
+
     private GameView gameView;
     private GameState gameState;
     private MovieDatabase movieDatabase;
     private List<ConnectionStrategy> connectionStrategies;
+    private GameEngine engine; // the game rules, shared with headless simulations
     private ScheduledExecutorService scheduler;
     private Autocomplete autocomplete;
 
-    private volatile boolean turnActive = false;
-    private volatile int secondsRemaining = 30;
-    private volatile boolean timeoutOccurred = false;
+    private final BlockingQueue<TurnEvent> events = new LinkedBlockingQueue<>(); // keystrokes, timer ticks and suggestions
+    private int turnNumber; // tells ticks of the current turn from late ones
+    private int secondsRemaining = 30;
     private ScheduledFuture<?> timerTask; // scheduled task for countdown timer
+    private final RenderLoop renderLoop; // does all drawing while turns are played
+    private TurnViewModel turnView; // what the turn screen shows, changed only by the turn loop
+
+    private final ScheduledExecutorService suggester; // looks up suggestions off the turn loop
+    private SuggestionSession session; // follows the current turn's input, started on the first key
+    private ScheduledFuture<?> pendingLookup;
+    private volatile int latestQuery; // only the lookup with this number may show its result
+    private boolean legalMovesOnly; // suggest only movies that are valid moves this turn
+    private BitSet legalTerms; // the current turn's valid moves as autocomplete terms, if legalMovesOnly
 
     /**
      * Constructs a GameController with the necessary components
-     * and initializes autocomplete with movie titles
+     * and uses the movie database's shared autocomplete for title suggestions
      */
     public GameController(GameState gameState, GameView gameView, MovieDatabase movieDatabase,
                           List<ConnectionStrategy> connectionStrategies) {
         this.gameState = gameState;
         this.gameView = gameView;
         this.movieDatabase = movieDatabase;
-        this.autocomplete = new Autocomplete();
-        Collection<Movie> allMovies = movieDatabase.getAllMovies(); // populate autocomplete with all movies
-        autocomplete.buildTrie(allMovies);
+        this.autocomplete = movieDatabase.getAutocomplete(); // built once by the database, not per game
 
         this.connectionStrategies = connectionStrategies;
+        this.engine = new GameEngine(gameState, movieDatabase, connectionStrategies);
         this.scheduler = Executors.newScheduledThreadPool(1); // single-thread scheduler for timer
+        this.renderLoop = new RenderLoop(gameView);
+        this.suggester = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-suggestions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets whether suggestions only show movies that would be valid moves,
+     * instead of every title matching the input.
+     *
+     * @param legalMovesOnly {@code true} to hide played and unconnected movies from the suggestions
+     */
+    public void setLegalMovesOnly(boolean legalMovesOnly) {
+        this.legalMovesOnly = legalMovesOnly;
     }
 
     /**
@@ -66,113 +96,169 @@ public class GameController {
             return;
         }
 
-        gameState.initializeGame(players, startingMovie);
-        gameState.addPlayedMovie(startingMovie); // mark as played immediately
+        engine.start(players, startingMovie);
 
-        startTurn();
+        playTurns();
     }
 
     /**
-     * Begins a player's turn,
-     * handling input, suggestions, timeout, and move validation.
+     * Plays turns until the game is over.
+     * Keystrokes, timer ticks and suggestions arrive as events on one queue, and this thread sleeps on the
+     * queue between them, so a key is handled as soon as it is typed and nothing runs while idle.
      */
-    private void startTurn() {
-        if (gameState.isGameOver()) return;
+    private void playTurns() {
+        gameView.setKeyListener(keyStroke -> events.offer(TurnEvent.key(keyStroke)));
+        renderLoop.start();
+        try {
+            while (!gameState.isGameOver()) {
+                playTurn();
+            }
+        } finally {
+            gameView.setKeyListener(null); // later prompts read the keys themselves
+            stopTimer();
+            scheduler.shutdownNow();
+            suggester.shutdownNow();
+            renderLoop.stop(); // prompts after the game draw directly again
+        }
+    }
 
-        Player currentPlayer = gameState.getCurrentPlayer();
-        gameView.displayGameState(gameState); // show current status
+    /**
+     * Plays one player's turn,
+     * handling input, suggestions, timeout, and move validation.
+     * Returns when the player has made a valid move or the game is over.
+     */
+    private void playTurn() {
+        renderLoop.draw(view -> view.displayGameState(gameState)); // show current status
 
+        int turn = ++turnNumber;
         secondsRemaining = 30;
-        turnActive = true;
-        timeoutOccurred = false;
-
-        startTimer(); // begin countdown
+        show(new TurnViewModel("", Collections.emptyList(), secondsRemaining));
+        startTimer(turn); // begin countdown
 
         StringBuilder inputBuffer = new StringBuilder(); // store typed input
+        session = null;
+        // the valid moves only change between turns, so they are found once per turn
+        legalTerms = legalMovesOnly ? autocomplete.getTermBits(engine.getLegalMoves()) : null;
 
-        while (turnActive && !gameState.isGameOver()) {
-            KeyStroke keyStroke = gameView.pollInput(); // listen for keystrokes
-
-            if (keyStroke != null) {
-                switch (keyStroke.getKeyType()) {
-                    case Character:
-                        inputBuffer.append(keyStroke.getCharacter()); // append typed char
-                        break;
-                    case Backspace:
-                        if (inputBuffer.length() > 0) {
-                            inputBuffer.deleteCharAt(inputBuffer.length() - 1); // remove last char
-                        }
-                        break;
-                    case Enter:
-                        String submitted = inputBuffer.toString().trim();
-                        inputBuffer.setLength(0); // clear buffer
-                        gameView.updatePlayerInput(""); // clear GUI
-                        gameView.displaySuggestions(Collections.emptyList()); // clear suggestions
-                        handlePlayerMove(submitted); // validate input
-                        continue; // start loop again
-                    default:
-                        break;
-                }
-
-                String currentInput = inputBuffer.toString();
-                gameView.updatePlayerInput(currentInput); // show typed input live
+        while (!gameState.isGameOver()) {
+            TurnEvent event;
+            try {
+                event = events.take(); // wait for the next keystroke or tick
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopTimer();
+                gameState.setGameOver(true); // nobody is left to play
+                return;
+            }
 
-                if (currentInput.trim().isEmpty()) {
-                    gameView.displaySuggestions(Collections.emptyList()); // no suggestions
-                } else {
-                    List<ITerm> suggestions = autocomplete.getSuggestions(currentInput.trim());
-                    List<String> topSuggestions = new ArrayList<>();
-                    for (int i = 0; i < Math.min(5, suggestions.size()); i++) {
-                        topSuggestions.add(suggestions.get(i).toString()); // show top 5 suggestions
-                    }
-                    gameView.displaySuggestions(topSuggestions);
+            if (event.suggestions != null) {
+                if (event.query == latestQuery) { // results of older lookups are dropped
+                    show(turnView.withSuggestions(event.suggestions));
                 }
+                continue;
             }
 
-            if (timeoutOccurred) break;
+            if (event.keyStroke == null) {
+                if (event.turn != turn) continue; // tick from a finished turn
+                secondsRemaining--;
+                updateScreen(); // update timer on screen
+                if (secondsRemaining <= 0) {
+                    timeout(); // force timeout
+                    return;
+                }
+                continue;
+            }
 
-            try {
-                Thread.sleep(50); // small delay to avoid tight loop
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            KeyStroke keyStroke = event.keyStroke;
+            switch (keyStroke.getKeyType()) {
+                case Character:
+                    inputBuffer.append(keyStroke.getCharacter()); // append typed char
+                    break;
+                case Backspace:
+                    if (inputBuffer.length() > 0) {
+                        inputBuffer.deleteCharAt(inputBuffer.length() - 1); // remove last char
+                    }
+                    break;
+                case Enter:
+                    String submitted = inputBuffer.toString().trim();
+                    inputBuffer.setLength(0); // clear buffer
+                    cancelSuggestions();
+                    show(turnView.withInput("").withSuggestions(Collections.emptyList())); // clear input and suggestions
+                    if (handlePlayerMove(submitted)) { // validate input
+                        return; // next player's turn
+                    }
+                    continue;
+                default:
+                    break;
             }
-        }
 
-        if (!gameState.isGameOver()) {
-            endTurnAndSwitchPlayer();
-            startTurn(); // next player's turn
+            String currentInput = inputBuffer.toString();
+            show(turnView.withInput(currentInput)); // show typed input live, before any lookup
+            requestSuggestions(currentInput.trim());
         }
     }
 
     /**
-     * Starts the countdown timer for the current player's turn.
-     * Ends the turn if the time reaches zero.
+     * Looks up suggestions for the input in the background, after a short pause in typing.
+     * A newer request cancels the older one, and results arrive on the event queue,
+     * so a slow lookup never holds up the next keystroke.
+     *
+     * @param prefix the trimmed input
      */
-    private void startTimer() {
-        if (timerTask != null && !timerTask.isDone()) {
-            timerTask.cancel(true); // cancel previous timer if still running
+    private void requestSuggestions(String prefix) {
+        cancelSuggestions();
+        if (prefix.isEmpty()) {
+            show(turnView.withSuggestions(Collections.emptyList())); // no suggestions
+            return;
         }
+        if (session == null) {
+            session = autocomplete.newSession(5, legalTerms);
+        }
+        SuggestionSession lookupSession = session;
+        int query = latestQuery;
+        pendingLookup = suggester.schedule(() -> {
+            if (query != latestQuery) return; // typed again in the meantime
+            lookupSession.setPrefix(prefix); // only the changed end of the input is looked up
+            List<String> topSuggestions = new ArrayList<>();
+            for (ITerm suggestion : lookupSession.getTopSuggestions()) {
+                topSuggestions.add(suggestion.toString()); // show top 5 suggestions, most popular first
+            }
+            events.offer(TurnEvent.suggestions(topSuggestions, query));
+        }, SUGGESTION_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
 
-        timerTask = scheduler.scheduleAtFixedRate(() -> {
-            if (turnActive && secondsRemaining > 0) {
-                secondsRemaining--;
-                try {
-                    updateScreen(); // update timer on screen
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+    /**
+     * Cancels the pending suggestion lookup, and drops its result if it is already running.
+     */
+    private void cancelSuggestions() {
+        latestQuery++;
+        if (pendingLookup != null) {
+            pendingLookup.cancel(false);
+            pendingLookup = null;
+        }
+    }
 
-                try {
-                    Thread.sleep(10); // slight pause
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+    /**
+     * Hands the turn screen's new contents to the render loop, which draws them with its next frame.
+     *
+     * @param model the new contents
+     */
+    private void show(TurnViewModel model) {
+        turnView = model;
+        renderLoop.show(model);
+    }
 
-                if (secondsRemaining == 0) {
-                    timeout(); // force timeout
-                }
-            }
-        }, 1, 1, TimeUnit.SECONDS); // start after 1 sec, repeat every 1 sec
+    /**
+     * Starts the countdown timer for the current player's turn.
+     * The timer only queues a tick every second; the turn loop counts them down.
+     *
+     * @param turn the turn the ticks belong to
+     */
+    private void startTimer(int turn) {
+        stopTimer(); // cancel previous timer if still running
+        timerTask = scheduler.scheduleAtFixedRate(
+                () -> events.offer(TurnEvent.tick(turn)),
+                1, 1, TimeUnit.SECONDS); // start after 1 sec, repeat every 1 sec
     }
 
     /**
@@ -181,15 +267,10 @@ public class GameController {
      */
     private void timeout() {
         stopTimer();
-        timeoutOccurred = true;
-        turnActive = false;
 
         try {
-            Player loser = gameState.getCurrentPlayer(); // current player ran out of time
-            List<Player> players = gameState.getPlayers();
-            Player winner = (players.get(0) == loser) ? players.get(1) : players.get(0); // pick other player
-            gameState.setGameOver(true);
-            gameView.showWinner(winner); // announce winner
+            Player winner = engine.timeout(); // current player ran out of time
+            showWinner(winner); // announce winner
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -199,7 +280,6 @@ public class GameController {
      * Stops the active timer task.
      */
     private void stopTimer() {
-        turnActive = false;
         if (timerTask != null && !timerTask.isDone()) {
             timerTask.cancel(true);
         }
@@ -209,81 +289,99 @@ public class GameController {
      * Updates only the timer display on the game screen.
      */
     private void updateScreen() {
-        gameView.updateTimerOnly(secondsRemaining);
+        show(turnView.withSecondsRemaining(secondsRemaining));
+    }
+
+    /**
+     * Replaces the turn screen with the winner screen.
+     *
+     * @param winner the player who won
+     */
+    private void showWinner(Player winner) {
+        renderLoop.show(null); // the turn screen must not be drawn over the winner
+        renderLoop.draw(view -> view.showWinner(winner));
+    }
+
+    /**
+     * Shows a message below the board, drawn by the render loop.
+     *
+     * @param message the message
+     * @param clearPrompt whether to blank the prompt line first
+     */
+    private void showMessage(String message, boolean clearPrompt) {
+        renderLoop.draw(view -> {
+            if (clearPrompt) {
+                view.printString(0, 24, " ".repeat(120)); // clear prompt line
+            }
+            view.showMessageAndPause(message);
+        });
     }
 
     /**
      * Processes the player's movie guess
      * and validates it using the defined connection strategies.
+     * The engine applies valid moves and passes the turn; this only reacts on screen.
+     *
+     * @param movieTitle the title the player typed
+     * @return {@code true} if the move ended the turn, {@code false} if the player should try again
      */
-    private void handlePlayerMove(String movieTitle) {
-        Movie nextMovie = movieDatabase.getMovieByTitle(movieTitle);
+    private boolean handlePlayerMove(String movieTitle) {
+        Player currentPlayer = gameState.getCurrentPlayer();
+        MoveResult result = engine.playMove(movieTitle);
 
-        if (nextMovie == null) {
-            gameView.showMessageAndPause("Movie not found. Try again!");
-            return;
+        switch (result.getOutcome()) {
+            case NOT_FOUND:
+                showMessage("Movie not found. Try again!", false);
+                break;
+            case ALREADY_PLAYED:
+                showMessage("This movie has already been used!", false);
+                break;
+            case WON:
+                stopTimer();
+                showWinner(currentPlayer);
+                return true;
+            case CONNECTED:
+                stopTimer();
+                showMessage("Nice move! Connected", false);
+                return true;
+            case CONNECTION_OVERUSED:
+                showMessage("The connection '" + result.getSharedElement() + "' ("
+                        + result.getConnectionType() + ") has already been used 3 times!", true);
+                break;
+            default:
+                showMessage("Invalid connection. Try again.", true);
+                break;
         }
+        return false;
+    }
 
-        // check if already played
-        if (gameState.getPlayedMovies().contains(nextMovie)) {
-            gameView.showMessageAndPause("This movie has already been used!");
-            return;
+    /**
+     * A keystroke, the result of a suggestion lookup, or a timer tick if it is neither
+     */
+    private static final class TurnEvent {
+        final KeyStroke keyStroke;
+        final int turn; // the turn a tick belongs to
+        final List<String> suggestions;
+        final int query; // the lookup the suggestions belong to
+
+        private TurnEvent(KeyStroke keyStroke, int turn, List<String> suggestions, int query) {
+            this.keyStroke = keyStroke;
+            this.turn = turn;
+            this.suggestions = suggestions;
+            this.query = query;
         }
 
-        boolean isValidMove = false;
-        boolean connectionOverused = false;
-        String specificValue = null;
-        String connectType = null;
-
-        for (ConnectionStrategy connection : connectionStrategies) {
-            connectType = connection.getType();
-
-            if (connection.areConnected(gameState.getCurrentMovie(), nextMovie)) {
-                specificValue = connection.getSharedElement(gameState.getCurrentMovie(), nextMovie);
-
-                if (!gameState.canUseSpecificConnection(connectType, specificValue)) {
-                    connectionOverused = true;
-                    break; // don't allow overused connections
-                }
-
-                isValidMove = true;
-
-                gameState.incrementSpecificConnectionUsage(connectType, specificValue);
-                Player currentPlayer = gameState.getCurrentPlayer();
-                gameState.addPlayedMovie(nextMovie);
-                gameState.updateState(nextMovie, connection.getType());
-                currentPlayer.addMovie(nextMovie);
-
-                if (currentPlayer.hasWon()) {
-                    stopTimer();
-                    gameState.setGameOver(true);
-                    gameView.showWinner(currentPlayer);
-                    return;
-                }
-                break;
-            }
+        static TurnEvent key(KeyStroke keyStroke) {
+            return new TurnEvent(keyStroke, 0, null, 0);
         }
 
-        if (isValidMove) {
-            stopTimer();
-            gameView.showMessageAndPause("Nice move! Connected");
-            endTurnAndSwitchPlayer();
-            startTurn();
-        } else if (connectionOverused) {
-            gameView.printString(0, 24, " ".repeat(120)); // clear prompt line
-            gameView.showMessageAndPause("The connection '" + specificValue + "' (" + connectType + ") has already been used 3 times!");
-        } else {
-            gameView.printString(0, 24, " ".repeat(120)); // clear prompt line
-            gameView.showMessageAndPause("Invalid connection. Try again.");
+        static TurnEvent tick(int turn) {
+            return new TurnEvent(null, turn, null, 0);
         }
-    }
 
-    /**
-     * Ends the current player's turn, switches to the next player,
-     * and increments the round.
-     */
-    private void endTurnAndSwitchPlayer() {
-        gameState.switchPlayer();
+        static TurnEvent suggestions(List<String> suggestions, int query) {
+            return new TurnEvent(null, 0, suggestions, query);
+        }
     }
 }
 
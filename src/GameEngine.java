@@ -0,0 +1,263 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The rules of the Movie Name Game without any terminal, timer or sleeps.
+ * <p>
+ * The engine checks and applies moves on a {@code GameState}, using the same connection strategies,
+ * connection limits and win conditions as the terminal game, which drives it through
+ * {@code GameController}. Scripted or computer players can also play complete games with
+ * {@link #playGame}, so thousands of games can be simulated in the time one is played by hand.
+ * <p>
+ * An engine runs one game at a time and is not thread-safe; use one engine per thread.
+ */
+public class GameEngine {
+    /** How many invalid moves a policy may try before it loses the turn, like running out of time */
+    public static final int ATTEMPTS_PER_TURN = 3;
+
+    private final GameState gameState;
+    private final MovieDatabase movieDatabase;
+    private final List<ConnectionStrategy> connectionStrategies;
+    private final Map<String, Integer> connectionTypeCounts; // moves made through each connection type
+    private int movesPlayed;
+
+    /**
+     * Creates an engine for one game.
+     *
+     * @param gameState            the state to play on
+     * @param movieDatabase        the movies that can be played
+     * @param connectionStrategies the connection types allowed, checked in this order
+     */
+    public GameEngine(GameState gameState, MovieDatabase movieDatabase, List<ConnectionStrategy> connectionStrategies) {
+        this.gameState = gameState;
+        this.movieDatabase = movieDatabase;
+        this.connectionStrategies = connectionStrategies;
+        this.connectionTypeCounts = new HashMap<>();
+    }
+
+    /**
+     * Starts a game with a given first movie, which counts as played.
+     *
+     * @param players       the players, who should already have their win conditions
+     * @param startingMovie the first movie
+     */
+    public void start(List<Player> players, Movie startingMovie) {
+        gameState.initializeGame(players, startingMovie);
+        gameState.addPlayedMovie(startingMovie); // mark as played immediately
+        connectionTypeCounts.clear();
+        movesPlayed = 0;
+    }
+
+    /**
+     * Starts a game with a random first movie that can be connected with the engine's strategies.
+     *
+     * @param players the players, who should already have their win conditions
+     * @param random  the random source to draw the first movie with
+     * @return {@code true} if the game started, {@code false} if there is no valid starting movie
+     */
+    public boolean start(List<Player> players, Random random) {
+        Movie startingMovie = movieDatabase.getValidStartingMovie(connectionStrategies, random, false);
+        if (startingMovie == null) {
+            return false;
+        }
+        start(players, startingMovie);
+        return true;
+    }
+
+    /**
+     * Checks a typed title and plays it for the current player if it is valid.
+     *
+     * @param movieTitle the title, matched ignoring case and accents
+     * @return what happened
+     */
+    public MoveResult playMove(String movieTitle) {
+        Movie nextMovie = movieDatabase.getMovieByTitle(movieTitle);
+        if (nextMovie == null) {
+            return new MoveResult(MoveResult.Outcome.NOT_FOUND, null, null, null);
+        }
+        return playMove(nextMovie);
+    }
+
+    /**
+     * Plays a movie for the current player if it is valid.
+     * A valid move records the connection, makes the movie current and either ends the game
+     * (if the player has now won) or passes the turn to the next player.
+     *
+     * @param nextMovie the movie to play
+     * @return what happened; the game state only changes if the move is valid
+     */
+    public MoveResult playMove(Movie nextMovie) {
+        MoveResult check = checkMove(nextMovie);
+        if (!check.isValid()) {
+            return check;
+        }
+
+        String connectType = check.getConnectionType();
+        gameState.incrementSpecificConnectionUsage(connectType, check.getSharedElement());
+        Player currentPlayer = gameState.getCurrentPlayer();
+        gameState.addPlayedMovie(nextMovie);
+        gameState.updateState(nextMovie, connectType);
+        currentPlayer.addMovie(nextMovie);
+        connectionTypeCounts.merge(connectType, 1, Integer::sum);
+        movesPlayed++;
+
+        if (currentPlayer.hasWon()) {
+            gameState.setGameOver(true);
+            return new MoveResult(MoveResult.Outcome.WON, nextMovie, connectType, check.getSharedElement());
+        }
+        gameState.switchPlayer();
+        return check;
+    }
+
+    /**
+     * Checks whether a movie would be a valid move for the current player, without playing it.
+     * The first strategy that connects the movies decides: if its shared element is used up,
+     * the move is rejected even if another strategy would connect them too.
+     *
+     * @param nextMovie the movie to check
+     * @return {@link MoveResult.Outcome#CONNECTED} if the move is valid, otherwise why it is not
+     */
+    public MoveResult checkMove(Movie nextMovie) {
+        if (nextMovie == null) {
+            return new MoveResult(MoveResult.Outcome.NOT_FOUND, null, null, null);
+        }
+        // check if already played
+        if (gameState.getPlayedMovies().contains(nextMovie)) {
+            return new MoveResult(MoveResult.Outcome.ALREADY_PLAYED, nextMovie, null, null);
+        }
+
+        for (ConnectionStrategy connection : connectionStrategies) {
+            String connectType = connection.getType();
+
+            if (connection.areConnected(gameState.getCurrentMovie(), nextMovie)) {
+                String specificValue = connection.getSharedElement(gameState.getCurrentMovie(), nextMovie);
+
+                if (!gameState.canUseSpecificConnection(connectType, specificValue)) {
+                    // don't allow overused connections
+                    return new MoveResult(MoveResult.Outcome.CONNECTION_OVERUSED, nextMovie, connectType, specificValue);
+                }
+                return new MoveResult(MoveResult.Outcome.CONNECTED, nextMovie, connectType, specificValue);
+            }
+        }
+        return new MoveResult(MoveResult.Outcome.INVALID_CONNECTION, nextMovie, null, null);
+    }
+
+    /**
+     * Lists every movie the current player could play now: connected to the current movie,
+     * not played yet, and not through a connection that has been used up.
+     *
+     * @return the valid moves, in the database's load order
+     */
+    public List<Movie> getLegalMoves() {
+        List<Movie> legalMoves = new ArrayList<>();
+        for (Movie movie : movieDatabase.getCandidateMovies(
+                gameState.getCurrentMovie(), connectionStrategies, gameState.getPlayedMovies())) {
+            if (checkMove(movie).isValid()) {
+                legalMoves.add(movie);
+            }
+        }
+        return legalMoves;
+    }
+
+    /**
+     * Ends the game because the current player failed to move in time.
+     *
+     * @return the winner, i.e. the player whose turn would have been next
+     */
+    public Player timeout() {
+        List<Player> players = gameState.getPlayers();
+        Player loser = gameState.getCurrentPlayer(); // current player ran out of time
+        Player winner = players.get((players.indexOf(loser) + 1) % players.size()); // pick next player
+        gameState.setGameOver(true);
+        return winner;
+    }
+
+    /**
+     * Plays a started game to the end, asking each player's policy for their moves.
+     * A player whose policy gives up, or keeps choosing invalid movies, loses as if their time ran out.
+     *
+     * @param policies the policy of each player, in the same order as the game's players
+     * @param random   the random source handed to the policies
+     * @param maxMoves the most moves to play before calling the game a draw
+     * @return the winner, or {@code null} if the game reached {@code maxMoves} without one
+     */
+    public Player playGame(List<PlayerPolicy> policies, Random random, int maxMoves) {
+        while (!gameState.isGameOver()) {
+            if (movesPlayed >= maxMoves) {
+                gameState.setGameOver(true); // guards against two policies that can play forever
+                return null;
+            }
+            Player currentPlayer = gameState.getCurrentPlayer();
+            PlayerPolicy policy = policies.get(gameState.getPlayers().indexOf(currentPlayer));
+
+            MoveResult result = null;
+            for (int attempt = 0; attempt < ATTEMPTS_PER_TURN; attempt++) {
+                Movie choice = policy.chooseMove(this, random);
+                if (choice == null) {
+                    break;
+                }
+                result = playMove(choice);
+                if (result.isValid()) {
+                    break;
+                }
+            }
+
+            if (result == null || !result.isValid()) {
+                return timeout();
+            }
+            if (result.getOutcome() == MoveResult.Outcome.WON) {
+                return currentPlayer;
+            }
+        }
+        return gameState.getWinner();
+    }
+
+    /**
+     * Gets the state of the engine's game.
+     *
+     * @return the game state
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Gets the movies that can be played.
+     *
+     * @return the movie database
+     */
+    public MovieDatabase getMovieDatabase() {
+        return movieDatabase;
+    }
+
+    /**
+     * Gets the connection types allowed in this game.
+     *
+     * @return the connection strategies, in the order they are checked
+     */
+    public List<ConnectionStrategy> getConnectionStrategies() {
+        return connectionStrategies;
+    }
+
+    /**
+     * Gets how many valid moves have been played since the game started.
+     *
+     * @return the number of moves
+     */
+    public int getMovesPlayed() {
+        return movesPlayed;
+    }
+
+    /**
+     * Gets how many moves went through each connection type since the game started.
+     *
+     * @return connection type (e.g. "Actor") to number of moves, read-only
+     */
+    public Map<String, Integer> getConnectionTypeCounts() {
+        return Collections.unmodifiableMap(connectionTypeCounts);
+    }
+}
@@ -0,0 +1,122 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@code GameEngine}, which plays the game without a terminal.
+ */
+public class GameEngineTest {
+
+    private Movie start;
+    private Movie sameActor;
+    private Movie sameGenre;
+    private Movie unrelated;
+    private GameEngine engine;
+    private Player player1;
+    private Player player2;
+
+    @Before
+    public void setUp() {
+        start = new Movie("Start", 2000, Arrays.asList("Actor A"), "Director A", null, null, null, Arrays.asList("Drama"));
+        sameActor = new Movie("Same Actor", 2001, Arrays.asList("Actor A"), "Director B", null, null, null, Arrays.asList("Comedy"));
+        sameGenre = new Movie("Same Genre", 2002, Arrays.asList("Actor C"), "Director C", null, null, null, Arrays.asList("Comedy"));
+        unrelated = new Movie("Unrelated", 2003, Arrays.asList("Actor D"), "Director D", null, null, null, Arrays.asList("Horror"));
+        MovieDatabase database = new MovieDatabase(Arrays.asList(start, sameActor, sameGenre, unrelated));
+        engine = new GameEngine(new GameState(), database, List.of(new ActorConnection(), new GenreConnection()));
+
+        player1 = new Player("Soojin");
+        player2 = new Player("Zoe");
+        player1.setWinCondition(new GenreWinCondition("Comedy", 2));
+        player2.setWinCondition(new GenreWinCondition("Horror", 1));
+        engine.start(Arrays.asList(player1, player2), start);
+    }
+
+    @Test
+    public void testInvalidMovesLeaveStateUnchanged() {
+        assertEquals(MoveResult.Outcome.NOT_FOUND, engine.playMove("No Such Movie").getOutcome());
+        assertEquals(MoveResult.Outcome.ALREADY_PLAYED, engine.playMove("start").getOutcome());
+        assertEquals(MoveResult.Outcome.INVALID_CONNECTION, engine.playMove(unrelated).getOutcome());
+        assertSame(player1, engine.getGameState().getCurrentPlayer());
+        assertSame(start, engine.getGameState().getCurrentMovie());
+        assertEquals(0, engine.getMovesPlayed());
+    }
+
+    @Test
+    public void testValidMovePassesTheTurn() {
+        MoveResult result = engine.playMove("Same Actor");
+        assertEquals(MoveResult.Outcome.CONNECTED, result.getOutcome());
+        assertEquals("Actor", result.getConnectionType());
+        assertEquals("Actor A", result.getSharedElement());
+        assertSame(player2, engine.getGameState().getCurrentPlayer());
+        assertSame(sameActor, engine.getGameState().getCurrentMovie());
+        assertEquals(List.of(sameActor), player1.getMoviesPlayed());
+        assertEquals(Collections.singletonMap("Actor", 1), engine.getConnectionTypeCounts());
+    }
+
+    @Test
+    public void testLegalMoves() {
+        assertEquals(List.of(sameActor), engine.getLegalMoves());
+
+        engine.playMove(sameActor);
+        assertEquals(List.of(sameGenre), engine.getLegalMoves()); // the start movie is already played
+
+        GameState state = engine.getGameState();
+        for (int i = 0; i < 3; i++) {
+            state.incrementSpecificConnectionUsage("Genre", "Comedy");
+        }
+        assertTrue(engine.getLegalMoves().isEmpty()); // the used-up genre blocks the move
+    }
+
+    @Test
+    public void testOverusedConnectionIsRejected() {
+        GameState state = engine.getGameState();
+        for (int i = 0; i < 3; i++) {
+            state.incrementSpecificConnectionUsage("Actor", "Actor A");
+        }
+        MoveResult result = engine.checkMove(sameActor);
+        assertEquals(MoveResult.Outcome.CONNECTION_OVERUSED, result.getOutcome());
+        assertFalse(result.isValid());
+    }
+
+    @Test
+    public void testPlayGameEndsWithAWin() {
+        player1.setWinCondition(new GenreWinCondition("Comedy", 1));
+        PlayerPolicy comedy = (e, random) -> sameActor;
+        PlayerPolicy stuck = (e, random) -> null;
+
+        assertSame(player1, engine.playGame(Arrays.asList(comedy, stuck), new Random(1), 100));
+        assertTrue(engine.getGameState().isGameOver());
+        assertEquals(1, engine.getMovesPlayed());
+    }
+
+    @Test
+    public void testPlayerWhoCannotMoveLoses() {
+        int[] attempts = {0};
+        PlayerPolicy invalid = (e, random) -> {
+            attempts[0]++;
+            return unrelated;
+        };
+        PlayerPolicy stuck = (e, random) -> null;
+
+        assertSame(player2, engine.playGame(Arrays.asList(invalid, stuck), new Random(1), 100));
+        assertEquals(GameEngine.ATTEMPTS_PER_TURN, attempts[0]);
+        assertEquals(0, engine.getMovesPlayed());
+    }
+
+    @Test
+    public void testRandomPoliciesFinishOrHitTheMoveLimit() {
+        PlayerPolicy policy = new RandomMovePolicy();
+        Player winner = engine.playGame(Arrays.asList(policy, policy), new Random(7), 1);
+        assertTrue(engine.getGameState().isGameOver());
+        assertTrue(engine.getMovesPlayed() <= 1);
+        if (winner == null) {
+            assertEquals(1, engine.getMovesPlayed()); // stopped by the move limit
+        }
+    }
+}
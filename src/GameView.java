@@ -1,6 +1,7 @@
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.graphics.TextGraphics;
 import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.input.KeyType;
 import com.googlecode.lanterna.screen.Screen;
 import com.googlecode.lanterna.terminal.DefaultTerminalFactory;
 import com.googlecode.lanterna.terminal.Terminal;
@@ -11,7 +12,10 @@ import com.googlecode.lanterna.TextColor;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * VIEW PART OF our MVC model
@@ -27,6 +31,13 @@ public class GameView {
     private int halfWidth;
     private int thirdWidth;
 
+    // keys read by the input thread go to the listener, or wait here for getUserInput when there is none
+    private volatile Consumer<KeyStroke> keyListener;
+    private final BlockingQueue<KeyStroke> pendingKeys = new LinkedBlockingQueue<>();
+    private Thread inputThread; // started by the first setKeyListener call
+
+    private int frameDepth; // open beginFrame calls; the screen is refreshed when the last one ends
+
     /**
      * Constructs the game view and initializes the terminal screen and graphics.
      */
@@ -50,9 +61,48 @@ public class GameView {
         }
     }
 
+    /**
+     * Starts a frame: drawing only goes to the screen's back buffer until the matching
+     * {@link #endFrame()}, which sends all of it to the terminal with one refresh.
+     * Lanterna compares the back buffer with what is on the terminal, so a refresh only
+     * writes the cells that changed. Frames can be nested; only the outermost one refreshes.
+     */
+    public void beginFrame() {
+        frameDepth++;
+    }
+
+    /**
+     * Ends a frame started with {@link #beginFrame()}, refreshing the screen if it was the outermost one.
+     */
+    public void endFrame() {
+        if (frameDepth > 0 && --frameDepth == 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * Shows what has been drawn, unless a frame is open and will do it when it ends.
+     */
+    private void flush() {
+        if (frameDepth == 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * Sends the changed cells of the back buffer to the terminal.
+     */
+    private void refresh() {
+        try {
+            screen.refresh();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Prints a string at the specified column and row in the terminal.
-     * Automatically refreshes the screen after printing.
+     * Refreshes the screen after printing, unless a frame is open.
      *
      * @param col  the column at which to begin printing
      * @param row  the row at which to begin printing
@@ -60,11 +110,7 @@ public class GameView {
      */
     public void printString(int col, int row, String text) {
         graphics.putString(col, row, text);
-        try {
-            screen.refresh();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        flush();
     }
 
     /**
@@ -73,19 +119,21 @@ public class GameView {
      * @param message the message to display
      */
     public void showMessageAndPause(String message) {
-        try {
-            graphics.putString(0, 24, "                                                        "); // Clear old
-            graphics.putString(0, 24, message); // Show message at row 15
-            screen.refresh();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        graphics.putString(0, 24, "                                                        "); // Clear old
+        graphics.putString(0, 24, message); // Show message at row 15
+        flush();
     }
 
     /**
      * Clears the screen.
+     * Inside a frame only the back buffer is blanked, so the refresh at the end of the frame
+     * still writes just the cells that differ from what is on the terminal.
      */
     public void clearScreen() {
+        if (frameDepth > 0) {
+            graphics.fill(' ');
+            return;
+        }
         try {
             screen.clear();
             screen.refresh();
@@ -119,6 +167,66 @@ public class GameView {
         }
     }
 
+    /**
+     * Sends every keystroke to a listener as soon as it is typed, instead of waiting to be polled.
+     * The first call starts a background thread that blocks on the terminal, so no time is spent
+     * waiting or polling between keys. Keys typed while there is no listener are kept for the
+     * next prompt.
+     *
+     * @param listener receives each keystroke on the input thread, or {@code null} to stop listening
+     */
+    public synchronized void setKeyListener(Consumer<KeyStroke> listener) {
+        this.keyListener = listener;
+        if (listener != null && inputThread == null) {
+            inputThread = new Thread(this::pumpInput, "game-input");
+            inputThread.setDaemon(true); // must not keep the program alive after the screen is closed
+            inputThread.start();
+        }
+    }
+
+    /**
+     * Reads keystrokes until the terminal closes and hands each one to the listener.
+     */
+    private void pumpInput() {
+        try {
+            while (true) {
+                KeyStroke keyStroke = screen.readInput(); // blocks until a key is typed
+                if (keyStroke == null || keyStroke.getKeyType() == KeyType.EOF) {
+                    return;
+                }
+                Consumer<KeyStroke> listener = keyListener;
+                if (listener != null) {
+                    listener.accept(keyStroke);
+                } else {
+                    pendingKeys.offer(keyStroke);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Waits for the next keystroke for a prompt.
+     * Once the input thread runs it owns the terminal, so keys are taken from it instead.
+     *
+     * @return the keystroke
+     * @throws IOException if the terminal cannot be read
+     */
+    private KeyStroke readKey() throws IOException {
+        synchronized (this) {
+            if (inputThread == null) {
+                return screen.readInput();
+            }
+        }
+        try {
+            return pendingKeys.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for input", e);
+        }
+    }
+
     /**
      * Updates the player input line with the current text.
      *
@@ -126,8 +234,13 @@ public class GameView {
      */
     public void updatePlayerInput(String currentInput) {
         // Overwrite the input line
-        printString(10, 27, " ".repeat(150)); // Clear the full line
-        printString(10, 27, currentInput); // Print new input
+        beginFrame();
+        try {
+            printString(10, 27, " ".repeat(150)); // Clear the full line
+            printString(10, 27, currentInput); // Print new input
+        } finally {
+            endFrame();
+        }
     }
 
     /**
@@ -136,17 +249,22 @@ public class GameView {
      * @param player the player who won
      */
     public void showWinner(Player player) {
-        clearScreen();
+        beginFrame();
+        try {
+            clearScreen();
 
-        printString(4, 2,  "╔══════════════════════════════════════════════════════╗");
-        printString(4, 3,  "║                  CONGRATULATIONS!                    ║");
-        printString(4, 4,  "╚══════════════════════════════════════════════════════╝");
+            printString(4, 2,  "╔══════════════════════════════════════════════════════╗");
+            printString(4, 3,  "║                  CONGRATULATIONS!                    ║");
+            printString(4, 4,  "╚══════════════════════════════════════════════════════╝");
 
-        String nameLine = "Winner: " + player.getName().toUpperCase();
-        printString(10, 6, nameLine);
+            String nameLine = "Winner: " + player.getName().toUpperCase();
+            printString(10, 6, nameLine);
 
-        printString(10, 8, "You have won the Movie Name Game.");
-        printString(10, 10, "Thanks for playing!");
+            printString(10, 8, "You have won the Movie Name Game.");
+            printString(10, 10, "Thanks for playing!");
+        } finally {
+            endFrame();
+        }
     }
 
     /**
@@ -183,6 +301,20 @@ public class GameView {
      *                  round count, and connection history
      */
     public void displayGameState(GameState gameState) {
+        beginFrame(); // the whole board goes out in one refresh
+        try {
+            drawGameState(gameState);
+        } finally {
+            endFrame();
+        }
+    }
+
+    /**
+     * Draws the game interface into the back buffer, see {@link #displayGameState}.
+     *
+     * @param gameState the current state of the game
+     */
+    private void drawGameState(GameState gameState) {
         clearScreen();
 
         int padding = 2;
@@ -307,21 +439,17 @@ public class GameView {
      * @param secondsRemaining the number of seconds left in the current player's turn
      */
     public void updateTimerOnly(int secondsRemaining) {
-        try {
-            String timerText = "Timer: " + secondsRemaining + "s";
-            int timerStartCol = (totalWidth - timerText.length()) / 2;
-            int timerRow = 22; //
+        String timerText = "Timer: " + secondsRemaining + "s";
+        int timerStartCol = (totalWidth - timerText.length()) / 2;
+        int timerRow = 22; //
 
-            // Clear old timer (overwrite with spaces)
-            graphics.putString(timerStartCol, timerRow, " ".repeat(timerText.length()));
+        // Clear old timer (overwrite with spaces)
+        graphics.putString(timerStartCol, timerRow, " ".repeat(timerText.length()));
 
-            // Write updated timer
-            graphics.putString(timerStartCol, timerRow, timerText);
+        // Write updated timer
+        graphics.putString(timerStartCol, timerRow, timerText);
 
-            screen.refresh();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        flush();
     }
     /**
      * Returns a string description of the player's current win condition.
@@ -354,25 +482,13 @@ public class GameView {
         WinConditionStrategy condition = player.getWinCondition();
         if (condition instanceof GenreWinCondition) {
             GenreWinCondition g = (GenreWinCondition) condition;
-            int count = 0;
-            for (Movie m : player.getMoviesPlayed()) {
-                if (m.getGenres().contains(g.getGenre())) count++;
-            }
-            return count + "/" + g.getRequiredCount();
+            return g.getProgress(player) + "/" + g.getRequiredCount();
         } else if (condition instanceof ActorWinCondition) {
             ActorWinCondition a = (ActorWinCondition) condition;
-            int count = 0;
-            for (Movie m : player.getMoviesPlayed()) {
-                if (m.getActors().contains(a.getActor())) count++;
-            }
-            return count + "/" + a.getRequiredCount();
+            return a.getProgress(player) + "/" + a.getRequiredCount();
         } else if (condition instanceof DirectorWinCondition) {
             DirectorWinCondition d = (DirectorWinCondition) condition;
-            int count = 0;
-            for (Movie m : player.getMoviesPlayed()) {
-                if (d.getDirector().equalsIgnoreCase(m.getDirector())) count++;
-            }
-            return count + "/" + d.getRequiredCount();
+            return d.getProgress(player) + "/" + d.getRequiredCount();
         } else {
             return "-";
         }
@@ -392,7 +508,7 @@ public class GameView {
         try {
             KeyStroke keyStroke;
             while (true) {
-                keyStroke = screen.readInput(); // blocking for name input only
+                keyStroke = readKey(); // blocking for name input only
                 switch (keyStroke.getKeyType()) {
                     case Enter:
                         return input.toString();
@@ -403,8 +519,13 @@ public class GameView {
                     case Backspace:
                         if (input.length() > 0) {
                             input.deleteCharAt(input.length() - 1);
-                            printString(startCol, startRow, input.toString() + " ");
-                            printString(startCol, startRow, input.toString());
+                            beginFrame();
+                            try {
+                                printString(startCol, startRow, input.toString() + " ");
+                                printString(startCol, startRow, input.toString());
+                            } finally {
+                                endFrame();
+                            }
                         }
                         break;
                     default:
@@ -429,14 +550,19 @@ public class GameView {
         int maxSuggestions = 5;
         int suggestionCol = 10; // align with user input start
 
-        // 1) Clear previous suggestions
-        for (int i = 0; i < maxSuggestions; i++) {
-            printString(suggestionCol, startRow + i, " ".repeat(120));
-        }
+        beginFrame();
+        try {
+            // 1) Clear previous suggestions
+            for (int i = 0; i < maxSuggestions; i++) {
+                printString(suggestionCol, startRow + i, " ".repeat(120));
+            }
 
-        // 2) Print new suggestions
-        for (int i = 0; i < Math.min(suggestions.size(), maxSuggestions); i++) {
-            printString(suggestionCol, startRow + i, "- " + suggestions.get(i));
+            // 2) Print new suggestions
+            for (int i = 0; i < Math.min(suggestions.size(), maxSuggestions); i++) {
+                printString(suggestionCol, startRow + i, "- " + suggestions.get(i));
+            }
+        } finally {
+            endFrame();
         }
     }
 
@@ -529,15 +655,20 @@ public class GameView {
      * @return an array of two strings where index 0 is Player 1's name and index 1 is Player 2's name
      */
     public String[] getPlayerNames() {
-        clearScreen();
+        beginFrame();
+        try {
+            clearScreen();
 
-        printString(6, 3, "╔══════════════════════════════════════════════════════════════╗");
-        printString(6, 4, "║                   Let the Battle begin!                      ║");
-        printString(6, 5, "╚══════════════════════════════════════════════════════════════╝");
+            printString(6, 3, "╔══════════════════════════════════════════════════════════════╗");
+            printString(6, 4, "║                   Let the Battle begin!                      ║");
+            printString(6, 5, "╚══════════════════════════════════════════════════════════════╝");
 
-        printString(6, 7, "Please enter the names of the two players.");
+            printString(6, 7, "Please enter the names of the two players.");
 
-        printString(6, 9, "Enter name for Player 1: ");
+            printString(6, 9, "Enter name for Player 1: ");
+        } finally {
+            endFrame(); // show the prompt before waiting for input
+        }
         String player1Name = getUserInput(34, 9); // adjusted x for alignment
 
         printString(6, 11, "Enter name for Player 2: ");
@@ -579,20 +710,25 @@ public class GameView {
      * @return a {@link WinConditionStrategy} representing the player's chosen win condition
      */
     public WinConditionStrategy getPlayersWinConditions(Player player, MovieDatabase movieDatabase) {
-        clearScreen();
-
-        // Ensures your title line is centered and fits exactly
-        String title = player.getName() + " - Choose Your Win Condition!";
-        String centered = centerInBox(title, 66);
-        printString(2, 1, "╔" + "═".repeat(66) + "╗");
-        printString(2, 2, "║" + centered + "║");
-        printString(2, 3, "╚" + "═".repeat(66) + "╝");
-
-
-        printString(4, 5, "You have 3 win conditions to choose from:");
-        printString(6, 6, "1. Genre");
-        printString(6, 7, "2. Actor");
-        printString(6, 8, "3. Director");
+        beginFrame();
+        try {
+            clearScreen();
+
+            // Ensures your title line is centered and fits exactly
+            String title = player.getName() + " - Choose Your Win Condition!";
+            String centered = centerInBox(title, 66);
+            printString(2, 1, "╔" + "═".repeat(66) + "╗");
+            printString(2, 2, "║" + centered + "║");
+            printString(2, 3, "╚" + "═".repeat(66) + "╝");
+
+
+            printString(4, 5, "You have 3 win conditions to choose from:");
+            printString(6, 6, "1. Genre");
+            printString(6, 7, "2. Actor");
+            printString(6, 8, "3. Director");
+        } finally {
+            endFrame();
+        }
 
 
         int choiceRow = 10;
@@ -601,8 +737,13 @@ public class GameView {
         int winConditionChoice = -1;
 
         while (true) {
-            printString(4, choiceRow, "Enter choice (1-3):                          ");
-            printString(errorCol, choiceRow, " ".repeat(30));
+            beginFrame();
+            try {
+                printString(4, choiceRow, "Enter choice (1-3):                          ");
+                printString(errorCol, choiceRow, " ".repeat(30));
+            } finally {
+                endFrame(); // show the prompt before waiting for input
+            }
 
             String choiceInput = getUserInput(inputCol, choiceRow).trim();
             try {
@@ -621,17 +762,27 @@ public class GameView {
         inputCol = 25;
         errorCol = 50;
 
-        printString(4, difficultyRow, "Select difficulty level:");
-        printString(6, difficultyRow + 1, "1. Easy");
-        printString(6, difficultyRow + 2, "2. Medium");
-        printString(6, difficultyRow + 3, "3. Hard");
+        beginFrame();
+        try {
+            printString(4, difficultyRow, "Select difficulty level:");
+            printString(6, difficultyRow + 1, "1. Easy");
+            printString(6, difficultyRow + 2, "2. Medium");
+            printString(6, difficultyRow + 3, "3. Hard");
+        } finally {
+            endFrame();
+        }
 
         int difficultyInputRow = difficultyRow + 5;
         int difficultyChoice = -1;
 
         while (true) {
-            printString(4, difficultyInputRow, "Enter choice (1-3):                          ");
-            printString(errorCol, difficultyInputRow, " ".repeat(30));
+            beginFrame();
+            try {
+                printString(4, difficultyInputRow, "Enter choice (1-3):                          ");
+                printString(errorCol, difficultyInputRow, " ".repeat(30));
+            } finally {
+                endFrame(); // show the prompt before waiting for input
+            }
 
             String choice = getUserInput(inputCol, difficultyInputRow).trim();
             try {
@@ -645,31 +796,9 @@ public class GameView {
             printString(errorCol, difficultyInputRow, "<-- Invalid! Enter 1, 2, or 3");
         }
 
-        int count = switch (difficultyChoice) {
-            case 1 -> 3;
-            case 2 -> 5;
-            case 3 -> 7;
-            default -> 5;
-        };
-
-        return switch (winConditionChoice) {
-            case 1 -> {
-                List<String> genres = new ArrayList<>(movieDatabase.getAllGenres());
-                String randomGenre = genres.get(ThreadLocalRandom.current().nextInt(genres.size()));
-                yield new GenreWinCondition(randomGenre, count);
-            }
-            case 2 -> {
-                List<String> actors = new ArrayList<>(movieDatabase.getAllActors());
-                String randomActor = actors.get(ThreadLocalRandom.current().nextInt(actors.size()));
-                yield new ActorWinCondition(randomActor, count);
-            }
-            case 3 -> {
-                List<String> directors = new ArrayList<>(movieDatabase.getAllDirectors());
-                String randomDirector = directors.get(ThreadLocalRandom.current().nextInt(directors.size()));
-                yield new DirectorWinCondition(randomDirector, count);
-            }
-            default -> new GenreWinCondition("Action", count);
-        };
+        // choices are numbered like WinConditionFactory's constants
+        return new WinConditionFactory(movieDatabase)
+                .create(winConditionChoice, difficultyChoice, ThreadLocalRandom.current());
     }
 
     /**
@@ -688,16 +817,21 @@ public class GameView {
 
 
         while (true) {
-            // Clear all 3 lines
-            printString(0, promptRow, " ".repeat(80));
-            printString(0, inputRow, " ".repeat(80));
-            //printString(0, errorRow, " ".repeat(80));
-
-            // Prompt
-            printString(4, promptRow, "Would you like to play again? (y/n), then press Enter:");
-
-            // Print "> " input label
-            printString(4, inputRow, "> ");
+            beginFrame();
+            try {
+                // Clear all 3 lines
+                printString(0, promptRow, " ".repeat(80));
+                printString(0, inputRow, " ".repeat(80));
+                //printString(0, errorRow, " ".repeat(80));
+
+                // Prompt
+                printString(4, promptRow, "Would you like to play again? (y/n), then press Enter:");
+
+                // Print "> " input label
+                printString(4, inputRow, "> ");
+            } finally {
+                endFrame(); // show the prompt before waiting for input
+            }
 
             // User input begins after "> "
             String input = getUserInput(inputCol, inputRow).trim().toLowerCase();
@@ -1,6 +1,3 @@
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 /**
  * A connection strategy that determines whether two movies are connected by genre.
  * <p>
@@ -19,21 +16,14 @@ public  class GenreConnection implements ConnectionStrategy {
      */
     @Override
     public boolean areConnected(Movie a, Movie b) {
-        List<String> genresA = a.getGenres();
-        List<String> genresB = b.getGenres();
-
-        if (genresA == null || genresB == null) {
-            return false;
+        // one AND covers every genre unless a movie has a genre outside the bitmask
+        if ((a.getGenreMask() & b.getGenreMask()) != 0) {
+            return true;
         }
-
-        Set<String> genreSetB = new HashSet<>(genresB);
-        for (String genre : genresA) {
-            if (genreSetB.contains(genre)) {
-                return true;
-            }
+        if (!a.hasGenreOverflow() || !b.hasGenreOverflow()) {
+            return false;
         }
-
-        return false; // not connected by genre
+        return IdSets.intersects(a.getGenreIds(), b.getGenreIds());
     }
 
     /**
@@ -47,7 +37,7 @@ public  class GenreConnection implements ConnectionStrategy {
     }
 
     /**
-     * Returns the first shared genre between two movies!
+     * Returns a shared genre between two movies, the same one every time!
      * Used to keep count and make sure any given connection used only 3 times.
      *
      * @param a the first movie
@@ -56,17 +46,15 @@ public  class GenreConnection implements ConnectionStrategy {
      */
     @Override
     public String getSharedElement(Movie a, Movie b) {
-        List<String> genresA = a.getGenres();
-        List<String> genresB = b.getGenres();
-        if (genresA == null || genresB == null) return null;
-
-        Set<String> setB = new HashSet<>(genresB);
-        for (String genre : genresA) {
-            if (setB.contains(genre)) {
-                return genre;
-            }
+        long shared = a.getGenreMask() & b.getGenreMask();
+        if (shared != 0) {
+            // lowest bit = smallest shared id, the same genre the id arrays would give
+            return SymbolTable.GENRES.name(Long.numberOfTrailingZeros(shared));
+        }
+        if (!a.hasGenreOverflow() || !b.hasGenreOverflow()) {
+            return null;
         }
-        return null;
+        return SymbolTable.GENRES.name(IdSets.firstCommon(a.getGenreIds(), b.getGenreIds()));
     }
 
 
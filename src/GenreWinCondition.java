@@ -1,3 +1,6 @@
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Checks if a player wins by playing a certain number of movies in a specific genre.
  */
@@ -5,6 +8,10 @@ public class GenreWinCondition implements WinConditionStrategy {
 
     private String genre;
     private int requiredCount;
+    private int genreId; // the genre's id in SymbolTable.GENRES, NONE until a movie with the genre exists
+    private long genreBit; // the genre's bit in Movie.getGenreMask(), 0 if it has none
+    private Player owner; // the player whose movies are counted as they are played
+    private int ownerCount;
 
     /**
      * Creates a new GenreWinCondition.
@@ -15,6 +22,8 @@ public class GenreWinCondition implements WinConditionStrategy {
     public GenreWinCondition(String genre, int requiredCount) {
         this.genre = genre;
         this.requiredCount = requiredCount;
+        this.genreId = SymbolTable.GENRES.find(genre);
+        this.genreBit = Movie.genreBit(genreId);
     }
 
     /**
@@ -25,15 +34,80 @@ public class GenreWinCondition implements WinConditionStrategy {
      */
     @Override
     public boolean isSatisfied(Player player) {
-        // count how many movies player has played that match the required genre
+        // player wins if they played the required number of movies in this genre
+        return getProgress(player) >= requiredCount;
+    }
+
+    /**
+     * Starts counting a player's movies in the genre, including the ones already played.
+     *
+     * @param player the player this condition belongs to
+     */
+    @Override
+    public void onAttach(Player player) {
+        this.owner = player;
+        this.ownerCount = countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movie if it is in the genre.
+     *
+     * @param movie the movie the owner just played
+     */
+    @Override
+    public void onMoviePlayed(Movie movie) {
+        if (matches(movie)) {
+            ownerCount++;
+        }
+    }
+
+    /**
+     * Gets how many movies in the genre the player has played.
+     * Constant time for the player this condition belongs to; other players are counted from scratch.
+     *
+     * @param player the player to check
+     * @return the number of movies in the genre
+     */
+    @Override
+    public int getProgress(Player player) {
+        return player == owner ? ownerCount : countMatches(player.getMoviesPlayed());
+    }
+
+    /**
+     * Counts the movies that have this condition's genre.
+     * Each movie costs one bit test on its genre bitmask.
+     *
+     * @param movies the movies to check, e.g. the ones a player has played
+     * @return how many of them are in the genre
+     */
+    public int countMatches(List<Movie> movies) {
         int genreCount = 0;
-        for (Movie movie : player.getMoviesPlayed()) {
-            if (movie.getGenres().contains(genre)) {
-                genreCount++;
+        for (Movie movie : movies) {
+            genreCount += matches(movie) ? 1 : 0;
+        }
+        return genreCount;
+    }
+
+    /**
+     * Checks whether a movie has this condition's genre.
+     * Uses the movie's genre bitmask, and its genre ids only when the genre has no bit (an id of 64 or more).
+     * The id is looked up without adding the genre; a genre no movie has is in none of them.
+     *
+     * @param movie the movie
+     * @return true if the movie is in the genre
+     */
+    public boolean matches(Movie movie) {
+        if (genreId == SymbolTable.NONE) {
+            genreId = SymbolTable.GENRES.find(genre); // movies may have been created after this condition
+            if (genreId == SymbolTable.NONE) {
+                return false;
             }
+            genreBit = Movie.genreBit(genreId);
         }
-        // player wins if they played the required number of movies in this genre
-        return genreCount >= requiredCount;
+        if (genreBit != 0) {
+            return (movie.getGenreMask() & genreBit) != 0;
+        }
+        return Arrays.binarySearch(movie.getGenreIds(), genreId) >= 0;
     }
 
     /**
@@ -66,4 +66,33 @@ public class GenreWinConditionTest {
         assertEquals(2, condition.getRequiredCount());
         assertEquals("Genre", condition.getConditionType());
     }
+
+    @Test
+    public void testProgressCountsMoviesAsTheyArePlayed() {
+        Movie m1 = new Movie("Action 1", 2010, Collections.emptyList(), "", "", "", "", Arrays.asList("Action"));
+        Movie m2 = new Movie("Drama 1", 2011, Collections.emptyList(), "", "", "", "", Arrays.asList("Drama"));
+        Movie m3 = new Movie("Action 2", 2012, Collections.emptyList(), "", "", "", "", Arrays.asList("Action", "Drama"));
+        player.addMovie(m1); // played before the condition was set
+        player.setWinCondition(condition);
+        assertEquals(1, condition.getProgress(player));
+
+        player.addMovie(m2);
+        player.addMovie(m3);
+        player.addMovie(m3); // duplicates are not played again
+        assertEquals(2, condition.getProgress(player));
+        assertTrue(player.hasWon());
+
+        // a player the condition is not attached to is still counted correctly
+        Player other = new Player("Zoe");
+        other.addMovie(m3);
+        assertEquals(1, condition.getProgress(other));
+    }
+
+    @Test
+    public void testUnknownGenreIsNotAddedAndNeverMatches() {
+        GenreWinCondition unknown = new GenreWinCondition("Not A Genre", 1);
+        player.addMovie(new Movie("Action 1", 2010, Collections.emptyList(), "", "", "", "", Arrays.asList("Action")));
+        assertEquals(0, unknown.getProgress(player));
+        assertEquals(SymbolTable.NONE, SymbolTable.GENRES.find("Not A Genre"));
+    }
 }
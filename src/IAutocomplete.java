@@ -45,4 +45,14 @@ public interface IAutocomplete
      */
     public List<ITerm> getSuggestions(String prefix);
 
+    /**
+     * Returns the k best autocomplete suggestions for the prefix, ranked by term weight
+     * Stops as soon as k terms are found instead of collecting every match
+     *
+     * @param prefix the prefix to autocomplete
+     * @param k      the maximum number of suggestions
+     * @return up to k ITerm objects, highest weight first, or empty list if no matches are found
+     */
+    public List<ITerm> getTopSuggestions(String prefix, int k);
+
 }
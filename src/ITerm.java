@@ -77,6 +77,13 @@ public interface ITerm
      */
     public String getTerm();
 
+    /**
+     * Returns the ranking weight of the term
+     *
+     * @return the weight
+     */
+    public double getWeight();
+
 
 }
 
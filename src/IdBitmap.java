@@ -0,0 +1,730 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative int ids, such as the dense movie ids of {@link MovieDatabase}.
+ * <p>
+ * Uses the Roaring layout: ids are split by their high 16 bits into chunks of 65536, and each
+ * chunk that holds at least one id gets a container. A chunk with few ids stores them as a sorted
+ * {@code char[]} (2 bytes per id); once it holds more than 4096 ids it switches to a 65536-bit
+ * bitmap (8 KB), which is smaller from that point on. A person's posting list of 30 movies
+ * therefore costs about 60 bytes whatever the size of the catalogue, while a genre with half a
+ * million movies costs one bit per movie.
+ * <p>
+ * {@link #and}, {@link #or} and {@link #andNot} return new bitmaps and never change their inputs,
+ * so posting lists can be shared freely once they are built. {@link #add} is fastest when ids
+ * arrive in ascending order, as they do when a bitmap is built by scanning dense ids.
+ */
+public class IdBitmap {
+    // a chunk with more ids than this is stored as a bitmap
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    // orAll sorts up to this many values of one chunk; more are cheaper to set in a bitmap
+    private static final int SORT_MAX = 1024;
+
+    // high 16 bits of the ids in each container, ascending
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Constructs an empty bitmap
+     */
+    public IdBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    /**
+     * Constructs a bitmap from containers that are already sorted by key
+     *
+     * @param keys       the container keys
+     * @param containers the containers, none of them empty
+     * @param size       the number of containers in use
+     */
+    private IdBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Builds a bitmap holding the given ids
+     *
+     * @param ids the ids, in any order, each 0 or more
+     * @return a new bitmap
+     */
+    public static IdBitmap of(int... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds an id
+     *
+     * @param id the id, 0 or more
+     */
+    public void add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must not be negative: " + id);
+        }
+        char key = (char) (id >>> 16);
+        int index;
+        // ascending adds always land in the last container, so skip the search for them
+        if (size > 0 && keys[size - 1] == key) {
+            index = size - 1;
+        } else {
+            index = size > 0 && keys[size - 1] < key ? -size - 1 : Arrays.binarySearch(keys, 0, size, key);
+            if (index < 0) {
+                index = -index - 1;
+                insertContainer(index, key, new Container());
+            }
+        }
+        containers[index] = containers[index].add((char) id);
+    }
+
+    /**
+     * Checks whether an id is in the bitmap
+     *
+     * @param id the id
+     * @return true if it was added
+     */
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    /**
+     * Counts the ids in the bitmap
+     *
+     * @return the number of ids
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /**
+     * Checks whether the bitmap holds no ids
+     *
+     * @return true if it is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ids in both bitmaps
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the intersection
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap(new char[Math.min(size, other.size)], new Container[Math.min(size, other.size)], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids in either bitmap
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the union
+     */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap(new char[size + other.size], new Container[size + other.size], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids in any of the bitmaps, in one pass.
+     * Cheaper than chaining {@link #or} when there are many bitmaps, such as the posting lists of
+     * every actor in a movie: each chunk is merged once instead of once per bitmap.
+     *
+     * @param bitmaps the bitmaps to unite
+     * @return a new bitmap with the union
+     */
+    public static IdBitmap orAll(List<IdBitmap> bitmaps) {
+        int total = 0;
+        for (IdBitmap bitmap : bitmaps) {
+            total += bitmap.size;
+        }
+        // every (key, bitmap, container) as one sortable long, so containers with the same key end up together
+        long[] entries = new long[total];
+        int count = 0;
+        for (int b = 0; b < bitmaps.size(); b++) {
+            IdBitmap bitmap = bitmaps.get(b);
+            for (int i = 0; i < bitmap.size; i++) {
+                entries[count++] = ((long) bitmap.keys[i] << 48) | ((long) b << 20) | i;
+            }
+        }
+        Arrays.sort(entries);
+
+        IdBitmap result = new IdBitmap(new char[total], new Container[total], 0);
+        int start = 0;
+        while (start < total) {
+            char key = (char) (entries[start] >>> 48);
+            int end = start + 1;
+            while (end < total && (char) (entries[end] >>> 48) == key) {
+                end++;
+            }
+            Container[] run = new Container[end - start];
+            for (int i = start; i < end; i++) {
+                IdBitmap bitmap = bitmaps.get((int) ((entries[i] >>> 20) & 0xFFFFFFF));
+                run[i - start] = bitmap.containers[(int) (entries[i] & 0xFFFFF)];
+            }
+            result.appendIfNotEmpty(key, Container.orAll(run));
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids in this bitmap that are not in the other one
+     *
+     * @param other the ids to remove
+     * @return a new bitmap with the difference
+     */
+    public IdBitmap andNot(IdBitmap other) {
+        IdBitmap result = new IdBitmap(new char[size], new Container[size], 0);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            boolean overlaps = j < other.size && other.keys[j] == keys[i];
+            result.appendIfNotEmpty(keys[i], overlaps ? containers[i].andNot(other.containers[j]) : containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the two bitmaps have an id in common, without building the intersection
+     *
+     * @param other the other bitmap
+     * @return true if some id is in both
+     */
+    public boolean intersects(IdBitmap other) {
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else if (containers[i++].intersects(other.containers[j++])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calls the action for every id, in ascending order
+     *
+     * @param action receives each id
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the ids as a sorted array
+     *
+     * @return the ids in ascending order
+     */
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int[] count = {0};
+        forEach(id -> ids[count[0]++] = id);
+        return ids;
+    }
+
+    /**
+     * Shrinks every array to the size in use. Call once a bitmap is fully built and will be kept.
+     */
+    public void trim() {
+        keys = Arrays.copyOf(keys, size);
+        containers = Arrays.copyOf(containers, size);
+        for (int i = 0; i < size; i++) {
+            containers[i].trim();
+        }
+    }
+
+    /**
+     * Estimates the memory held by the ids, without object headers
+     *
+     * @return the approximate size in bytes
+     */
+    public long sizeInBytes() {
+        long bytes = 2L * keys.length + 4L * containers.length;
+        for (int i = 0; i < size; i++) {
+            Container container = containers[i];
+            bytes += container.words != null ? 8L * BITMAP_WORDS : 2L * container.values.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Checks whether two bitmaps hold the same ids
+     *
+     * @param o the other object
+     * @return true if it is an IdBitmap with the same ids
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IdBitmap && Arrays.equals(toArray(), ((IdBitmap) o).toArray());
+    }
+
+    /**
+     * Hashes the ids
+     *
+     * @return a hash consistent with {@link #equals}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Lists the ids, e.g. {@code [1, 5, 70000]}
+     *
+     * @return the ids as text
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Inserts a container at a position, growing the arrays if needed
+     *
+     * @param index     the position
+     * @param key       the container key
+     * @param container the container
+     */
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+            containers = Arrays.copyOf(containers, keys.length);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Appends a container with a key larger than every key so far, unless it is empty
+     *
+     * @param key       the container key
+     * @param container the container, or {@code null} if the operation left nothing
+     */
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container != null && container.cardinality > 0) {
+            keys[size] = key;
+            containers[size] = container;
+            size++;
+        }
+    }
+
+    /**
+     * The ids of one 65536-wide chunk: either a sorted array of their low 16 bits or a bitmap.
+     * Only {@link #add} changes a container in place, and every bitmap owns its containers.
+     */
+    private static final class Container {
+        private char[] values; // sorted low bits, when this is an array container
+        private long[] words;  // one bit per low value, when this is a bitmap container
+        private int cardinality;
+
+        /**
+         * Constructs an empty array container
+         */
+        Container() {
+            this.values = new char[4];
+        }
+
+        /**
+         * Constructs an array container
+         *
+         * @param values      sorted distinct values
+         * @param cardinality the number of values in use
+         */
+        Container(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Constructs a bitmap container
+         *
+         * @param words       the 1024 words
+         * @param cardinality the number of bits set
+         */
+        Container(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Adds a value in place, switching to a bitmap when the array is full
+         *
+         * @param low the value
+         * @return this container, or the bitmap that replaced it
+         */
+        Container add(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) == 0) {
+                    words[low >>> 6] |= bit;
+                    cardinality++;
+                }
+                return this;
+            }
+            int index = cardinality > 0 && values[cardinality - 1] < low ? -cardinality - 1
+                    : Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        /**
+         * Checks whether a value is in the container
+         *
+         * @param low the value
+         * @return true if it is there
+         */
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        /**
+         * Intersects two containers
+         *
+         * @param other the other container
+         * @return the values in both
+         */
+        Container and(Container other) {
+            if (words != null && other.words != null) {
+                long[] result = new long[BITMAP_WORDS];
+                int count = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] = words[i] & other.words[i];
+                    count += Long.bitCount(result[i]);
+                }
+                return new Container(result, count).optimize();
+            }
+            if (words != null) {
+                return other.and(this);
+            }
+            char[] result = new char[Math.min(cardinality, other.cardinality)];
+            int count = 0;
+            if (other.words != null) {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+                return new Container(result, count);
+            }
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new Container(result, count);
+        }
+
+        /**
+         * Unites two containers
+         *
+         * @param other the other container
+         * @return the values in either
+         */
+        Container or(Container other) {
+            if (words == null && other.words == null && cardinality + other.cardinality <= ARRAY_MAX) {
+                char[] result = new char[cardinality + other.cardinality];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                        result[count++] = values[i++];
+                    } else if (i == cardinality || values[i] > other.values[j]) {
+                        result[count++] = other.values[j++];
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return new Container(result, count);
+            }
+            long[] result = words != null ? words.clone() : toWords();
+            if (other.words != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] |= other.words[i];
+                }
+            } else {
+                for (int i = 0; i < other.cardinality; i++) {
+                    result[other.values[i] >>> 6] |= 1L << other.values[i];
+                }
+            }
+            int count = 0;
+            for (long word : result) {
+                count += Long.bitCount(word);
+            }
+            return new Container(result, count).optimize();
+        }
+
+        /**
+         * Unites several containers of the same chunk
+         *
+         * @param run the containers, at least one
+         * @return the values in any of them
+         */
+        static Container orAll(Container[] run) {
+            if (run.length == 1) {
+                return run[0].copy();
+            }
+            int total = 0;
+            boolean anyBitmap = false;
+            for (Container container : run) {
+                total += container.cardinality;
+                anyBitmap |= container.words != null;
+            }
+            if (!anyBitmap && total <= SORT_MAX) {
+                // few values: concatenate, sort and drop duplicates
+                char[] values = new char[total];
+                int count = 0;
+                for (Container container : run) {
+                    System.arraycopy(container.values, 0, values, count, container.cardinality);
+                    count += container.cardinality;
+                }
+                Arrays.sort(values);
+                int distinct = 0;
+                for (int i = 0; i < count; i++) {
+                    if (distinct == 0 || values[distinct - 1] != values[i]) {
+                        values[distinct++] = values[i];
+                    }
+                }
+                return new Container(values, distinct);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            for (Container container : run) {
+                if (container.words != null) {
+                    for (int i = 0; i < BITMAP_WORDS; i++) {
+                        words[i] |= container.words[i];
+                    }
+                } else {
+                    for (int i = 0; i < container.cardinality; i++) {
+                        words[container.values[i] >>> 6] |= 1L << container.values[i];
+                    }
+                }
+            }
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return new Container(words, count).optimize();
+        }
+
+        /**
+         * Removes the other container's values from this one
+         *
+         * @param other the values to remove
+         * @return the remaining values
+         */
+        Container andNot(Container other) {
+            if (words == null) {
+                char[] result = new char[cardinality];
+                int count = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (!other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+                return new Container(result, count);
+            }
+            long[] result = words.clone();
+            if (other.words != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~other.words[i];
+                }
+            } else {
+                for (int i = 0; i < other.cardinality; i++) {
+                    result[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+                }
+            }
+            int count = 0;
+            for (long word : result) {
+                count += Long.bitCount(word);
+            }
+            return new Container(result, count).optimize();
+        }
+
+        /**
+         * Checks whether two containers share a value
+         *
+         * @param other the other container
+         * @return true if some value is in both
+         */
+        boolean intersects(Container other) {
+            if (words != null && other.words != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    if ((words[i] & other.words[i]) != 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            Container array = words == null ? this : other;
+            Container probe = array == this ? other : this;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (probe.contains(array.values[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Calls the action for every value, in ascending order
+         *
+         * @param high   the chunk's high bits, already shifted
+         * @param action receives each full id
+         */
+        void forEach(int high, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(high | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1; // clear the lowest set bit
+                }
+            }
+        }
+
+        /**
+         * Copies the container, so the copy can be added to independently
+         *
+         * @return a container with the same values
+         */
+        Container copy() {
+            return words != null ? new Container(words.clone(), cardinality)
+                    : new Container(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        /**
+         * Shrinks an array container to its cardinality
+         */
+        void trim() {
+            if (values != null && values.length > cardinality) {
+                values = Arrays.copyOf(values, cardinality);
+            }
+        }
+
+        /**
+         * Turns a small bitmap container back into an array container
+         *
+         * @return the smaller of the two forms
+         */
+        private Container optimize() {
+            if (words == null || cardinality > ARRAY_MAX) {
+                return this;
+            }
+            char[] result = new char[cardinality];
+            int[] count = {0};
+            forEach(0, low -> result[count[0]++] = (char) low);
+            return new Container(result, cardinality);
+        }
+
+        /**
+         * Copies an array container into a bitmap container
+         *
+         * @return the bitmap form
+         */
+        private Container toBitmap() {
+            return new Container(toWords(), cardinality);
+        }
+
+        /**
+         * Sets one bit per value of an array container
+         *
+         * @return the 1024 words
+         */
+        private long[] toWords() {
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+    }
+}
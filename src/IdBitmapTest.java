@@ -0,0 +1,108 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IdBitmapTest {
+
+    /**
+     * Builds a bitmap and a BitSet with the same random ids
+     */
+    private static IdBitmap random(Random random, BitSet expected, int count, int range) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int i = 0; i < count; i++) {
+            int id = random.nextInt(range);
+            bitmap.add(id);
+            expected.set(id);
+        }
+        return bitmap;
+    }
+
+    private static int[] ids(BitSet set) {
+        return set.stream().toArray();
+    }
+
+    @Test
+    public void testAddContainsAndOrder() {
+        IdBitmap bitmap = IdBitmap.of(70000, 3, 5, 3, 65535, 65536);
+        assertArrayEquals(new int[]{3, 5, 65535, 65536, 70000}, bitmap.toArray());
+        assertEquals(5, bitmap.cardinality());
+        assertTrue(bitmap.contains(65536));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-1));
+        assertTrue(new IdBitmap().isEmpty());
+    }
+
+    @Test
+    public void testSetOperationsMatchBitSet() {
+        Random random = new Random(7);
+        // sparse chunks stay arrays, dense ones become bitmaps, and some chunks only exist on one side
+        int[][] shapes = {{100, 300000}, {20000, 150000}, {60000, 70000}, {0, 10}};
+        for (int[] a : shapes) {
+            for (int[] b : shapes) {
+                BitSet expectedA = new BitSet();
+                BitSet expectedB = new BitSet();
+                IdBitmap bitmapA = random(random, expectedA, a[0], a[1]);
+                IdBitmap bitmapB = random(random, expectedB, b[0], b[1]);
+
+                BitSet and = (BitSet) expectedA.clone();
+                and.and(expectedB);
+                BitSet or = (BitSet) expectedA.clone();
+                or.or(expectedB);
+                BitSet andNot = (BitSet) expectedA.clone();
+                andNot.andNot(expectedB);
+
+                assertArrayEquals(ids(and), bitmapA.and(bitmapB).toArray());
+                assertArrayEquals(ids(or), bitmapA.or(bitmapB).toArray());
+                assertArrayEquals(ids(andNot), bitmapA.andNot(bitmapB).toArray());
+                assertEquals(expectedA.intersects(expectedB), bitmapA.intersects(bitmapB));
+                assertEquals(expectedA.cardinality(), bitmapA.cardinality());
+            }
+        }
+    }
+
+    @Test
+    public void testOrAllMatchesBitSet() {
+        Random random = new Random(11);
+        BitSet expected = new BitSet();
+        List<IdBitmap> bitmaps = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            // mostly small posting lists, plus a few large ones that force bitmap chunks
+            bitmaps.add(random(random, expected, i % 10 == 0 ? 30000 : 50, 200000));
+        }
+        assertArrayEquals(ids(expected), IdBitmap.orAll(bitmaps).toArray());
+        assertTrue(IdBitmap.orAll(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void testOperationsLeaveInputsUnchanged() {
+        IdBitmap a = IdBitmap.of(1, 2, 3);
+        IdBitmap b = IdBitmap.of(3, 4);
+        IdBitmap union = a.or(b);
+        union.add(5);
+        a.andNot(b);
+
+        assertEquals(IdBitmap.of(1, 2, 3), a);
+        assertEquals(IdBitmap.of(3, 4), b);
+        assertEquals(IdBitmap.of(1, 2, 3, 4, 5), union);
+    }
+
+    @Test
+    public void testDenseChunksAreCompact() {
+        IdBitmap dense = new IdBitmap();
+        for (int id = 0; id < 1_000_000; id += 2) {
+            dense.add(id);
+        }
+        dense.trim();
+        assertEquals(500_000, dense.cardinality());
+        assertTrue(dense.sizeInBytes() <= 16 * 8192 + 128); // one 8 KB bitmap per 65536 ids of range
+
+        IdBitmap sparse = IdBitmap.of(10, 400_000, 999_999);
+        sparse.trim();
+        assertTrue(sparse.sizeInBytes() < 64);
+    }
+}
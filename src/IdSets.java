@@ -0,0 +1,89 @@
+import java.util.Arrays;
+
+/**
+ * Set operations on sorted arrays of distinct ids, such as {@link Movie#getActorIds()}.
+ * Nothing here allocates, so connection checks can run for every candidate movie without
+ * producing garbage.
+ */
+public class IdSets {
+    // when one array is this many times longer, binary-search it instead of walking both
+    private static final int GALLOP_RATIO = 8;
+
+    /**
+     * Checks whether two sorted id arrays have an id in common
+     *
+     * @param a sorted distinct ids
+     * @param b sorted distinct ids
+     * @return true if some id is in both
+     */
+    public static boolean intersects(int[] a, int[] b) {
+        return firstCommon(a, b) != SymbolTable.NONE;
+    }
+
+    /**
+     * Finds the smallest id two sorted id arrays have in common, in one pass.
+     * Walks both arrays side by side when they are of similar length, and gallops through the
+     * longer one (exponential then binary search) when one is much longer than the other.
+     *
+     * @param a sorted distinct ids
+     * @param b sorted distinct ids
+     * @return the smallest shared id, or {@link SymbolTable#NONE} if there is none
+     */
+    public static int firstCommon(int[] a, int[] b) {
+        int[] small = a.length <= b.length ? a : b;
+        int[] large = small == a ? b : a;
+        if (small.length == 0) {
+            return SymbolTable.NONE;
+        }
+        if (large.length / small.length >= GALLOP_RATIO) {
+            return gallop(small, large);
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < small.length && j < large.length) {
+            int x = small[i];
+            int y = large[j];
+            if (x == y) {
+                return x;
+            }
+            if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return SymbolTable.NONE;
+    }
+
+    /**
+     * Looks up each id of the short array in the long one, resuming each search where the
+     * previous one stopped
+     *
+     * @param small the shorter sorted array, not empty
+     * @param large the longer sorted array
+     * @return the smallest shared id, or {@link SymbolTable#NONE} if there is none
+     */
+    private static int gallop(int[] small, int[] large) {
+        int low = 0;
+        for (int x : small) {
+            // double the step until large[high] is at least x; everything before low is smaller
+            int high = low;
+            int step = 1;
+            while (high < large.length && large[high] < x) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(large, low, Math.min(high + 1, large.length), x);
+            if (found >= 0) {
+                return x;
+            }
+            low = -found - 1;
+            if (low >= large.length) {
+                return SymbolTable.NONE;
+            }
+        }
+        return SymbolTable.NONE;
+    }
+}
@@ -0,0 +1,51 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IdSetsTest {
+
+    @Test
+    public void testFirstCommonMerge() {
+        assertEquals(5, IdSets.firstCommon(new int[]{1, 5, 9}, new int[]{2, 5, 9, 12}));
+        assertEquals(SymbolTable.NONE, IdSets.firstCommon(new int[]{1, 3, 7}, new int[]{2, 4, 8}));
+        assertTrue(IdSets.intersects(new int[]{4}, new int[]{4}));
+        assertFalse(IdSets.intersects(new int[0], new int[]{1, 2}));
+    }
+
+    @Test
+    public void testFirstCommonGallop() {
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2;
+        }
+        assertEquals(998, IdSets.firstCommon(new int[]{3, 997, 998}, large));
+        assertEquals(1998, IdSets.firstCommon(large, new int[]{1998, 1999}));
+        assertEquals(0, IdSets.firstCommon(new int[]{0}, large));
+        assertEquals(SymbolTable.NONE, IdSets.firstCommon(new int[]{-1, 1, 5, 2001}, large));
+    }
+
+    @Test
+    public void testFirstCommonAgreesWithBruteForce() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2000; round++) {
+            int[] a = randomSet(random, random.nextInt(5), 200);
+            int[] b = randomSet(random, random.nextInt(100), 200);
+            int expected = SymbolTable.NONE;
+            for (int x : a) {
+                if (Arrays.binarySearch(b, x) >= 0) {
+                    expected = x;
+                    break;
+                }
+            }
+            assertEquals(expected, IdSets.firstCommon(a, b));
+            assertEquals(expected, IdSets.firstCommon(b, a));
+        }
+    }
+
+    private static int[] randomSet(Random random, int size, int bound) {
+        return random.ints(size, 0, bound).sorted().distinct().toArray();
+    }
+}
@@ -0,0 +1,348 @@
+import java.util.function.Consumer;
+
+/**
+ * Pulls names out of the JSON columns of the TMDB CSV files without building a JSON tree.
+ * <p>
+ * Genre, cast and crew cells are arrays of flat objects such as
+ * {@code [{"id": 18, "name": "Drama"}, ...]}. The scanner walks the cell once, remembers where the
+ * {@code name} and {@code job} values start and end, and only creates a String for a name that is
+ * actually kept. Crew jobs are compared in place, so the hundreds of crew members per movie that are
+ * not a director, writer, cinematographer or composer cost no allocation at all.
+ * <p>
+ * Like {@code JSONArray} and {@code JSONObject.getString}, a cell that is not an array of objects,
+ * or an object without a string {@code name} (or {@code job} for crew), makes the whole cell invalid.
+ */
+public class JsonCellScanner {
+    private final String json;
+    private int pos;
+    // content of the last string scanned, between the quotes
+    private int stringStart;
+    private int stringEnd;
+    private boolean stringEscaped;
+
+    /**
+     * Receives crew members whose job is one of the requested jobs
+     */
+    @FunctionalInterface
+    public interface CrewMember {
+        /**
+         * Called once per matching crew member, in array order
+         *
+         * @param job  index of the job in the requested jobs array
+         * @param name the crew member's name, with JSON escapes decoded
+         */
+        void accept(int job, String name);
+    }
+
+    /**
+     * Constructs a scanner positioned at the start of a cell
+     *
+     * @param json the cell
+     */
+    private JsonCellScanner(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Reads the {@code name} of every object in a genre or cast cell
+     *
+     * @param json  the cell, e.g. {@code [{"id": 18, "name": "Drama"}]}
+     * @param names receives each name in array order
+     * @return true if the cell is a valid array of objects with names, false otherwise
+     */
+    public static boolean scanNames(String json, Consumer<String> names) {
+        return json != null && new JsonCellScanner(json).scanArray(null, names, null);
+    }
+
+    /**
+     * Reads the crew members of a crew cell whose {@code job} matches one of the given jobs,
+     * ignoring case. Everyone else is skipped without creating any strings.
+     *
+     * @param json    the cell, e.g. {@code [{"job": "Director", "name": "James Cameron"}]}
+     * @param jobs    the jobs to look for
+     * @param members receives each matching crew member in array order
+     * @return true if the cell is a valid array of objects with jobs and names, false otherwise
+     */
+    public static boolean scanCrew(String json, String[] jobs, CrewMember members) {
+        return json != null && new JsonCellScanner(json).scanArray(jobs, null, members);
+    }
+
+    /**
+     * Scans the top level array
+     *
+     * @param jobs    the crew jobs to look for, or {@code null} to report every name
+     * @param names   receives names when {@code jobs} is {@code null}
+     * @param members receives crew members when {@code jobs} is set
+     * @return true if the whole cell was valid
+     */
+    private boolean scanArray(String[] jobs, Consumer<String> names, CrewMember members) {
+        skipWhitespace();
+        if (!consume('[')) {
+            return false;
+        }
+        skipWhitespace();
+        if (consume(']')) {
+            return atEnd();
+        }
+        while (true) {
+            if (!scanObject(jobs, names, members)) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume(']')) {
+                return atEnd();
+            }
+            if (!consume(',')) {
+                return false;
+            }
+            skipWhitespace();
+        }
+    }
+
+    /**
+     * Scans one object of the array and reports its name if it is wanted
+     *
+     * @param jobs    the crew jobs to look for, or {@code null} to report every name
+     * @param names   receives names when {@code jobs} is {@code null}
+     * @param members receives crew members when {@code jobs} is set
+     * @return true if the object was valid
+     */
+    private boolean scanObject(String[] jobs, Consumer<String> names, CrewMember members) {
+        if (!consume('{')) {
+            return false;
+        }
+        int nameStart = -1;
+        int nameEnd = -1;
+        boolean nameEscaped = false;
+        int jobStart = -1;
+        int jobEnd = -1;
+        boolean jobEscaped = false;
+
+        skipWhitespace();
+        if (!consume('}')) {
+            while (true) {
+                skipWhitespace();
+                if (!scanString()) {
+                    return false;
+                }
+                boolean isName = lastStringEquals("name");
+                boolean isJob = jobs != null && lastStringEquals("job");
+                skipWhitespace();
+                if (!consume(':')) {
+                    return false;
+                }
+                skipWhitespace();
+                if (isName || isJob) {
+                    // getString() only accepts strings, so neither do we
+                    if (!scanString()) {
+                        return false;
+                    }
+                    if (isName) {
+                        nameStart = stringStart;
+                        nameEnd = stringEnd;
+                        nameEscaped = stringEscaped;
+                    } else {
+                        jobStart = stringStart;
+                        jobEnd = stringEnd;
+                        jobEscaped = stringEscaped;
+                    }
+                } else if (!skipValue()) {
+                    return false;
+                }
+                skipWhitespace();
+                if (consume('}')) {
+                    break;
+                }
+                if (!consume(',')) {
+                    return false;
+                }
+            }
+        }
+
+        if (nameStart < 0 || (jobs != null && jobStart < 0)) {
+            return false;
+        }
+        if (jobs == null) {
+            names.accept(text(nameStart, nameEnd, nameEscaped));
+            return true;
+        }
+        for (int i = 0; i < jobs.length; i++) {
+            if (jobEscaped ? text(jobStart, jobEnd, true).equalsIgnoreCase(jobs[i])
+                    : jobEnd - jobStart == jobs[i].length() && json.regionMatches(true, jobStart, jobs[i], 0, jobs[i].length())) {
+                members.accept(i, text(nameStart, nameEnd, nameEscaped));
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans a string token and records where its content is
+     *
+     * @return true if a complete string with valid escapes was found
+     */
+    private boolean scanString() {
+        if (!consume('"')) {
+            return false;
+        }
+        stringStart = pos;
+        stringEscaped = false;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                stringEnd = pos++;
+                return true;
+            }
+            if (c == '\\') {
+                stringEscaped = true;
+                if (pos + 1 >= json.length()) {
+                    return false;
+                }
+                char escaped = json.charAt(pos + 1);
+                if (escaped == 'u') {
+                    if (pos + 6 > json.length()) {
+                        return false;
+                    }
+                    for (int i = pos + 2; i < pos + 6; i++) {
+                        if (Character.digit(json.charAt(i), 16) < 0) {
+                            return false;
+                        }
+                    }
+                    pos += 6;
+                    continue;
+                }
+                if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+                    return false;
+                }
+                pos += 2;
+                continue;
+            }
+            pos++;
+        }
+        return false;
+    }
+
+    /**
+     * Skips a value that is not needed: a string, number, literal, or nested object or array
+     *
+     * @return true if a value was skipped
+     */
+    private boolean skipValue() {
+        if (pos >= json.length()) {
+            return false;
+        }
+        char c = json.charAt(pos);
+        if (c == '"') {
+            return scanString();
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (pos < json.length()) {
+                c = json.charAt(pos);
+                if (c == '"') {
+                    if (!scanString()) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                pos++;
+                if (depth == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int start = pos;
+        while (pos < json.length() && ",]}: \t\r\n".indexOf(json.charAt(pos)) < 0) {
+            pos++;
+        }
+        return pos > start;
+    }
+
+    /**
+     * Compares the content of the last scanned string to a key
+     *
+     * @param key the key, without escapes
+     * @return true if they are equal
+     */
+    private boolean lastStringEquals(String key) {
+        if (stringEscaped) {
+            return text(stringStart, stringEnd, true).equals(key);
+        }
+        return stringEnd - stringStart == key.length() && json.regionMatches(stringStart, key, 0, key.length());
+    }
+
+    /**
+     * Creates the String for a scanned string's content
+     *
+     * @param start   first content index
+     * @param end     index of the closing quote
+     * @param escaped whether the content contains escapes, which were validated by {@link #scanString()}
+     * @return the decoded text
+     */
+    private String text(int start, int end, boolean escaped) {
+        if (!escaped) {
+            return json.substring(start, end);
+        }
+        StringBuilder decoded = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = json.charAt(i);
+            if (c != '\\') {
+                decoded.append(c);
+                continue;
+            }
+            char escape = json.charAt(++i);
+            switch (escape) {
+                case 'b' -> decoded.append('\b');
+                case 'f' -> decoded.append('\f');
+                case 'n' -> decoded.append('\n');
+                case 'r' -> decoded.append('\r');
+                case 't' -> decoded.append('\t');
+                case 'u' -> {
+                    decoded.append((char) Integer.parseInt(json, i + 1, i + 5, 16));
+                    i += 4;
+                }
+                default -> decoded.append(escape); // \" \\ \/
+            }
+        }
+        return decoded.toString();
+    }
+
+    /**
+     * Skips spaces, tabs and line breaks
+     */
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * Moves past the given character if it is next
+     *
+     * @param c the expected character
+     * @return true if it was there
+     */
+    private boolean consume(char c) {
+        if (pos < json.length() && json.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the array
+     *
+     * @return true if the cell is finished
+     */
+    private boolean atEnd() {
+        skipWhitespace();
+        return pos == json.length();
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JsonCellScannerTest {
+    private static final String[] JOBS = {"Director", "Writer", "Cinematographer", "Composer"};
+
+    @Test
+    public void testScanNames() {
+        List<String> names = new ArrayList<>();
+        assertTrue(JsonCellScanner.scanNames("[{\"id\": 28, \"name\": \"Action\"}, {\"name\": \"Adventure\", \"id\": 12}]", names::add));
+        assertEquals(Arrays.asList("Action", "Adventure"), names);
+    }
+
+    @Test
+    public void testScanNamesEmptyArray() {
+        List<String> names = new ArrayList<>();
+        assertTrue(JsonCellScanner.scanNames(" [] ", names::add));
+        assertTrue(names.isEmpty());
+    }
+
+    @Test
+    public void testScanNamesSkipsNestedValuesAndDecodesEscapes() {
+        List<String> names = new ArrayList<>();
+        String cast = "[{\"cast_id\": 242, \"character\": \"Jake \\\"Sully\\\"\", \"extra\": {\"a\": [1, \"]\"]}, "
+                + "\"gender\": null, \"name\": \"Ren\\u00e9e Zellweger\", \"order\": 0}]";
+        assertTrue(JsonCellScanner.scanNames(cast, names::add));
+        assertEquals(Arrays.asList("Renée Zellweger"), names);
+    }
+
+    @Test
+    public void testScanNamesRejectsMalformedCells() {
+        List<String> names = new ArrayList<>();
+        assertFalse(JsonCellScanner.scanNames("2", names::add));
+        assertFalse(JsonCellScanner.scanNames("", names::add));
+        assertFalse(JsonCellScanner.scanNames(null, names::add));
+        assertFalse(JsonCellScanner.scanNames("[{\"name\": \"Action\"}", names::add));
+        assertFalse(JsonCellScanner.scanNames("[{\"name\": \"Act", names::add));
+        assertFalse(JsonCellScanner.scanNames("[{\"id\": 28}]", names::add));
+        assertFalse(JsonCellScanner.scanNames("[{\"name\": 28}]", names::add));
+        assertFalse(JsonCellScanner.scanNames("[{\"name\": \"A\"}] x", names::add));
+    }
+
+    @Test
+    public void testScanCrewKeepsOnlyRequestedJobs() {
+        String crew = "[{\"department\": \"Sound\", \"job\": \"Original Music Composer\", \"name\": \"Someone\"},"
+                + " {\"job\": \"director\", \"name\": \"James Cameron\"},"
+                + " {\"name\": \"Mauro Fiore\", \"job\": \"Cinematographer\"},"
+                + " {\"job\": \"Composer\", \"name\": \"James Horner\"},"
+                + " {\"job\": \"Director\", \"name\": \"Second Director\"}]";
+        String[] found = new String[JOBS.length];
+        List<String> order = new ArrayList<>();
+        assertTrue(JsonCellScanner.scanCrew(crew, JOBS, (job, name) -> {
+            found[job] = name;
+            order.add(name);
+        }));
+        assertEquals("Second Director", found[0]);
+        assertNull(found[1]);
+        assertEquals("Mauro Fiore", found[2]);
+        assertEquals("James Horner", found[3]);
+        assertEquals(Arrays.asList("James Cameron", "Mauro Fiore", "James Horner", "Second Director"), order);
+    }
+
+    @Test
+    public void testScanCrewNeedsJobAndName() {
+        assertFalse(JsonCellScanner.scanCrew("[{\"name\": \"No Job\"}]", JOBS, (job, name) -> fail()));
+        assertFalse(JsonCellScanner.scanCrew("5", JOBS, (job, name) -> fail()));
+        assertTrue(JsonCellScanner.scanCrew("[]", JOBS, (job, name) -> fail()));
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * The outcome of checking or playing one movie in the Movie Name Game.
+ * Tells the caller whether the move was accepted and, if it connected, through what.
+ * Returned by {@link GameEngine} so that the terminal game and headless simulations
+ * react to moves in the same way.
+ */
+public class MoveResult {
+
+    /**
+     * The possible outcomes of a move
+     */
+    public enum Outcome {
+        /** No movie with the typed title exists */
+        NOT_FOUND,
+        /** The movie has already been played in this game */
+        ALREADY_PLAYED,
+        /** The movie connects, but only through a connection used 3 times already */
+        CONNECTION_OVERUSED,
+        /** The movie does not connect to the current movie */
+        INVALID_CONNECTION,
+        /** The movie connects and the game goes on */
+        CONNECTED,
+        /** The movie connects and the player who played it has won */
+        WON
+    }
+
+    private final Outcome outcome;
+    private final Movie movie;
+    private final String connectionType;
+    private final String sharedElement;
+
+    /**
+     * Creates a move result.
+     *
+     * @param outcome        what happened
+     * @param movie          the movie that was played, or {@code null} if none was found
+     * @param connectionType the connection type used (e.g. "Actor"), or {@code null} if the movie did not connect
+     * @param sharedElement  the shared element (e.g. "Tom Hanks"), or {@code null} if the movie did not connect
+     */
+    public MoveResult(Outcome outcome, Movie movie, String connectionType, String sharedElement) {
+        this.outcome = outcome;
+        this.movie = movie;
+        this.connectionType = connectionType;
+        this.sharedElement = sharedElement;
+    }
+
+    /**
+     * Gets what happened.
+     *
+     * @return the outcome
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Checks whether the move was accepted, i.e. it connected and was not overused.
+     *
+     * @return {@code true} if the outcome is {@link Outcome#CONNECTED} or {@link Outcome#WON}
+     */
+    public boolean isValid() {
+        return outcome == Outcome.CONNECTED || outcome == Outcome.WON;
+    }
+
+    /**
+     * Gets the movie that was played.
+     *
+     * @return the movie, or {@code null} if no movie was found
+     */
+    public Movie getMovie() {
+        return movie;
+    }
+
+    /**
+     * Gets the connection type the move went through.
+     *
+     * @return the type, e.g. "Genre", or {@code null} if the movie did not connect
+     */
+    public String getConnectionType() {
+        return connectionType;
+    }
+
+    /**
+     * Gets the element the two movies share.
+     *
+     * @return the shared element, e.g. "Action", or {@code null} if the movie did not connect
+     */
+    public String getSharedElement() {
+        return sharedElement;
+    }
+}
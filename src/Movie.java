@@ -13,9 +13,20 @@ public class Movie {
     private String writer;
     private String cinematographer;
     private String composer;
+    private double popularity; // TMDB popularity score, used to rank suggestions
+
+    // ids from SymbolTable.PEOPLE / SymbolTable.GENRES, kept in step with the names above
+    private int[] actorIds;
+    private int[] genreIds;
+    private long genreMask; // bit i set for every genre id i below 64
+    private int directorId;
+    private int writerId;
+    private int cinematographerId;
+    private int composerId;
 
     /**
      * Constructs a Movie with the given details.
+     * Names are replaced by the shared instances from {@link SymbolTable}, and the lists are copied.
      *
      * @param title            the movie title
      * @param releaseYear      the release year
@@ -30,12 +41,17 @@ public class Movie {
                  String writer, String cinematographer, String composer, List<String> genres) {
         this.title = title;
         this.releaseYear = releaseYear;
-        this.actors = actors;
-        this.director = director;
-        this.writer = writer;
-        this.cinematographer = cinematographer;
-        this.composer = composer;
-        this.genres = genres;
+        setActors(actors);
+        setDirector(director);
+        setWriter(writer);
+        setCinematographer(cinematographer);
+        setComposer(composer);
+        this.genres = canonicalList(SymbolTable.GENRES, genres);
+        this.genreIds = SymbolTable.GENRES.internAll(this.genres);
+        this.genreMask = 0;
+        for (int id : genreIds) {
+            this.genreMask |= genreBit(id);
+        }
     }
 
     /**
@@ -86,11 +102,13 @@ public class Movie {
 
     /**
      * Sets the list of actors.
+     * The list is copied with shared name instances, so later changes to it do not affect the movie.
      *
      * @param actors new list of actors
      */
     public void setActors(List<String> actors) {
-        this.actors = actors;
+        this.actors = canonicalList(SymbolTable.PEOPLE, actors);
+        this.actorIds = SymbolTable.PEOPLE.internAll(this.actors);
     }
 
     /**
@@ -99,7 +117,9 @@ public class Movie {
      * @param director the director
      */
     public void setDirector(String director) {
-        this.director = director;
+        this.director = SymbolTable.PEOPLE.canonical(director);
+        // directors are matched ignoring case, so the id belongs to the lower-cased name
+        this.directorId = SymbolTable.PEOPLE.intern(director == null ? null : director.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -108,7 +128,8 @@ public class Movie {
      * @param writer the writer
      */
     public void setWriter(String writer) {
-        this.writer = writer;
+        this.writer = SymbolTable.PEOPLE.canonical(writer);
+        this.writerId = SymbolTable.PEOPLE.intern(writer);
     }
 
     /**
@@ -117,7 +138,8 @@ public class Movie {
      * @param cinematographer the cinematographer
      */
     public void setCinematographer(String cinematographer) {
-        this.cinematographer = cinematographer;
+        this.cinematographer = SymbolTable.PEOPLE.canonical(cinematographer);
+        this.cinematographerId = SymbolTable.PEOPLE.intern(cinematographer);
     }
 
     /**
@@ -126,7 +148,8 @@ public class Movie {
      * @param composer the composer
      */
     public void setComposer(String composer) {
-        this.composer = composer;
+        this.composer = SymbolTable.PEOPLE.canonical(composer);
+        this.composerId = SymbolTable.PEOPLE.intern(composer);
     }
 
     /**
@@ -165,6 +188,131 @@ public class Movie {
         return composer;
     }
 
+    /**
+     * Gets the TMDB popularity score.
+     *
+     * @return the popularity, {@code 0} if unknown
+     */
+    public double getPopularity() {
+        return popularity;
+    }
+
+    /**
+     * Sets the TMDB popularity score.
+     *
+     * @param popularity the popularity
+     */
+    public void setPopularity(double popularity) {
+        this.popularity = popularity;
+    }
+
+    /**
+     * Gets the ids of the actors in {@link SymbolTable#PEOPLE}.
+     * The array is shared, not copied, so callers must not change it.
+     *
+     * @return distinct actor ids in ascending order, empty if there are no actors
+     */
+    public int[] getActorIds() {
+        return actorIds;
+    }
+
+    /**
+     * Gets the ids of the genres in {@link SymbolTable#GENRES}.
+     * The array is shared, not copied, so callers must not change it.
+     *
+     * @return distinct genre ids in ascending order, empty if there are no genres
+     */
+    public int[] getGenreIds() {
+        return genreIds;
+    }
+
+    /**
+     * Gets the genres as a bitmask: bit i is set if the movie has the genre with id i.
+     * TMDB has about 20 genres, so every genre fits unless more than 64 genre names exist;
+     * see {@link #hasGenreOverflow()}.
+     *
+     * @return the genre bitmask
+     */
+    public long getGenreMask() {
+        return genreMask;
+    }
+
+    /**
+     * Checks whether some of the movie's genres have an id of 64 or more and so are missing
+     * from {@link #getGenreMask()}. Only then do genre checks need {@link #getGenreIds()}.
+     *
+     * @return true if the bitmask does not hold every genre of the movie
+     */
+    public boolean hasGenreOverflow() {
+        return Long.bitCount(genreMask) != genreIds.length;
+    }
+
+    /**
+     * Returns the bitmask bit of a genre id
+     *
+     * @param genreId an id from {@link SymbolTable#GENRES}
+     * @return the bit for that genre, or 0 if the id does not fit in a bitmask
+     */
+    public static long genreBit(int genreId) {
+        return genreId >= 0 && genreId < Long.SIZE ? 1L << genreId : 0;
+    }
+
+    /**
+     * Gets the id of the director in {@link SymbolTable#PEOPLE}.
+     * Directors are compared ignoring case, so this is the id of the lower-cased name.
+     *
+     * @return the director id, or {@link SymbolTable#NONE} if there is no director
+     */
+    public int getDirectorId() {
+        return directorId;
+    }
+
+    /**
+     * Gets the id of the writer in {@link SymbolTable#PEOPLE}.
+     *
+     * @return the writer id, or {@link SymbolTable#NONE} if there is no writer
+     */
+    public int getWriterId() {
+        return writerId;
+    }
+
+    /**
+     * Gets the id of the cinematographer in {@link SymbolTable#PEOPLE}.
+     *
+     * @return the cinematographer id, or {@link SymbolTable#NONE} if there is no cinematographer
+     */
+    public int getCinematographerId() {
+        return cinematographerId;
+    }
+
+    /**
+     * Gets the id of the composer in {@link SymbolTable#PEOPLE}.
+     *
+     * @return the composer id, or {@link SymbolTable#NONE} if there is no composer
+     */
+    public int getComposerId() {
+        return composerId;
+    }
+
+    /**
+     * Copies a list of names, replacing each name by its shared instance
+     *
+     * @param table the symbol table the names belong to
+     * @param names the names, may be {@code null}
+     * @return an unmodifiable copy, or {@code null} if {@code names} is {@code null}
+     */
+    private static List<String> canonicalList(SymbolTable table, List<String> names) {
+        if (names == null) {
+            return null;
+        }
+        String[] canonical = new String[names.size()];
+        int i = 0;
+        for (String name : names) {
+            canonical[i++] = table.canonical(name);
+        }
+        return Collections.unmodifiableList(Arrays.asList(canonical));
+    }
+
     /**
      * Returns the title as the string representation of the movie.
      *
@@ -1,4 +1,6 @@
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -8,30 +10,109 @@ import java.io.IOException;
  * It provides methods for lookup, autocomplete, and retrieving data by genre, actors, or directors.
  */
 public class MovieDatabase {
-    private Map<String, Movie> movies;
+    private static final String MOVIES_CSV = "tmdb_5000_movies.csv";
+    private static final String CREDITS_CSV = "tmdb_5000_credits.csv";
+    private static final String SNAPSHOT_FILE = "movieDatabase.bin";
+    // posting lists at least this long in total are merged once per key combination, see buildConnectionDegrees
+    private static final int UNION_CACHE_THRESHOLD = 4096;
+
+    // normalized title (see DataCleaner.toSearchKey) -> every movie with that title, in load order
+    private Map<String, List<Movie>> moviesByTitle;
     //changed to my autocomplete class
-    private Autocomplete autocomplete;
+    //built once here, then frozen and shared by every controller and game
+    private final Autocomplete autocomplete;
+    // inverted index: connection type (e.g. "Actor") -> shared element (e.g. "Tom Hanks") -> dense ids of movies with it
+    private Map<String, Map<String, IdBitmap>> connectionIndex;
+    // every stored movie; a movie's dense id is its position in this list
+    private List<Movie> movieList;
+    private Map<Movie, Integer> movieIds;
+    // connection type -> degree of each movie by dense id, filled at load and on demand for custom types
+    private Map<String, int[]> connectionDegrees;
+    // genre bitmask of each movie by dense id, so genre queries scan one array instead of every movie
+    private long[] genreMasks;
+    // set of connection types -> movies that can start a game with those strategies
+    private Map<Set<String>, StartingPool> startingPools;
 
     /**
-     * Loads movies and credits from CSV files, builds the internal database,
-     * populates autocomplete, and writes basic info to a .txt file.
+     * Loads movies and credits, builds the internal database and populates autocomplete.
+     * Uses the binary snapshot from the last run if the CSV files have not changed since;
+     * otherwise imports the CSV files, writes basic info to a .txt file and refreshes the snapshot.
      */
     public MovieDatabase() {
-        // here I am adding some movies to mock testing
-        this.movies = new HashMap<>();
+        this(loadMovies());
+    }
 
-        // Trying to import Frida's CSVImporter to create movie database out of CSV file
-        CSVDataImporter importer = new CSVDataImporter();
-        //pass map into autocomplete after importing
-        Map<Integer, Movie> imported = importer.importDataMovie("tmdb_5000_movies.csv");
-        imported = importer.importDataCredit("tmdb_5000_credits.csv", imported);
+    /**
+     * Builds the database from movies that are already loaded.
+     * Populates autocomplete and the connection index, but does not touch any files.
+     *
+     * @param loadedMovies the movies to store
+     */
+    public MovieDatabase(Collection<Movie> loadedMovies) {
+        this.moviesByTitle = new HashMap<>();
+        this.movieList = new ArrayList<>();
         this.autocomplete = new Autocomplete();
 
-        // Populate internal Map<String, Movie> using movie titles as keys
-        for (Movie movie : imported.values()) {
-            movies.put(movie.getTitle(), movie);
+        // Populate the title index, keeping every movie when titles are shared (e.g. remakes)
+        for (Movie movie : loadedMovies) {
+            movieList.add(movie);
+            moviesByTitle.computeIfAbsent(DataCleaner.toSearchKey(movie.getTitle()), k -> new ArrayList<>(1))
+                    .add(movie);
             autocomplete.addWord(movie.getSearchableTitle(), movie);
         }
+        autocomplete.freeze();
+        this.movieIds = new IdentityHashMap<>();
+        for (int i = 0; i < movieList.size(); i++) {
+            movieIds.put(movieList.get(i), i);
+        }
+        this.genreMasks = new long[movieList.size()];
+        for (int i = 0; i < movieList.size(); i++) {
+            genreMasks[i] = movieList.get(i).getGenreMask();
+        }
+        buildConnectionIndex();
+        buildConnectionDegrees();
+        this.startingPools = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Loads the movies from the snapshot when it matches the CSV files, else from the CSV files.
+     *
+     * @return the loaded movies
+     */
+    private static Collection<Movie> loadMovies() {
+        long checksum;
+        try {
+            checksum = MovieSnapshot.checksum(MOVIES_CSV, CREDITS_CSV);
+        } catch (IOException e) {
+            return importMovies(); // can't verify the snapshot, let the importer report the problem
+        }
+
+        List<Movie> cached = MovieSnapshot.read(SNAPSHOT_FILE, checksum);
+        if (cached != null) {
+            return cached;
+        }
+
+        Collection<Movie> imported = importMovies();
+        try {
+            MovieSnapshot.write(SNAPSHOT_FILE, checksum, imported);
+        } catch (IOException e) {
+            System.err.println("Error writing " + SNAPSHOT_FILE + ": " + e.getMessage());
+        }
+        return imported;
+    }
+
+    /**
+     * Imports movies and credits from the TMDB CSV files
+     * and writes basic info about every movie to movieDatabase.txt.
+     *
+     * @return the imported movies
+     */
+    private static Collection<Movie> importMovies() {
+        // Trying to import Frida's CSVImporter to create movie database out of CSV file
+        CSVDataImporter importer = new CSVDataImporter();
+        //pass map into autocomplete after importing
+        Map<Integer, Movie> imported = importer.importDataMovie(MOVIES_CSV);
+        imported = importer.importDataCredit(CREDITS_CSV, imported);
 
         // Write all movie info to MovieDatabase.txt this
         try (BufferedWriter writer = new BufferedWriter(new FileWriter("movieDatabase.txt"))) {
@@ -50,20 +131,178 @@ public class MovieDatabase {
         } catch (IOException e) {
             System.err.println("Error writing to output.txt: " + e.getMessage());
         }
+        return imported.values();
+    }
+
+    /**
+     * Builds the inverted index from every person and genre to the movies they appear in.
+     * Runs once at load time so connection lookups never have to scan all movies.
+     * Posting lists are compressed bitmaps of dense movie ids, filled in ascending id order.
+     */
+    private void buildConnectionIndex() {
+        this.connectionIndex = new HashMap<>();
+        String[] types = {"Actor", "Director", "Writer", "Cinematographer", "Composer", "Genre"};
+        for (String type : types) {
+            Map<String, IdBitmap> index = new HashMap<>();
+            for (int id = 0; id < movieList.size(); id++) {
+                for (String key : getConnectionKeys(movieList.get(id), type)) {
+                    index.computeIfAbsent(key, k -> new IdBitmap()).add(id);
+                }
+            }
+            for (IdBitmap postings : index.values()) {
+                postings.trim();
+            }
+            connectionIndex.put(type, index);
+        }
+    }
+
+    /**
+     * Computes the connection degree of every movie for every indexed connection type:
+     * the number of other movies it is connected to, however many elements they share.
+     * It is the union of the movie's posting lists, less the movie itself. Movies under the same
+     * keys share one union, so large lists (e.g. genres) are only merged once per combination.
+     */
+    private void buildConnectionDegrees() {
+        this.connectionDegrees = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Map<String, IdBitmap>> entry : connectionIndex.entrySet()) {
+            String type = entry.getKey();
+            Map<String, IdBitmap> index = entry.getValue();
+            Map<List<String>, Integer> unions = new HashMap<>(); // union size by key list, for large lists
+            int[] degrees = new int[movieList.size()];
+            for (int id = 0; id < movieList.size(); id++) {
+                List<String> keys = getConnectionKeys(movieList.get(id), type);
+                if (keys.isEmpty()) {
+                    continue;
+                }
+                if (keys.size() == 1) {
+                    degrees[id] = index.get(keys.get(0)).cardinality() - 1;
+                    continue;
+                }
+                List<IdBitmap> postings = new ArrayList<>(keys.size());
+                int total = 0;
+                for (String key : keys) {
+                    IdBitmap bitmap = index.get(key);
+                    postings.add(bitmap);
+                    total += bitmap.cardinality();
+                }
+                // every list holds the movie itself, so the union always does too
+                if (total < UNION_CACHE_THRESHOLD) {
+                    degrees[id] = IdBitmap.orAll(postings).cardinality() - 1;
+                } else {
+                    degrees[id] = unions.computeIfAbsent(keys, k -> IdBitmap.orAll(postings).cardinality()) - 1;
+                }
+            }
+            connectionDegrees.put(type, degrees);
+        }
+    }
+
+    /**
+     * Returns the degree table for a strategy, computing it by pairwise checks
+     * (once, then cached) if the strategy's type is not indexed.
+     *
+     * @param strategy the connection strategy
+     * @return the degree of each movie by dense id
+     */
+    private int[] getDegrees(ConnectionStrategy strategy) {
+        return connectionDegrees.computeIfAbsent(strategy.getType(), type -> {
+            int[] degrees = new int[movieList.size()];
+            for (int id = 0; id < movieList.size(); id++) {
+                for (Movie other : movieList) {
+                    if (other != movieList.get(id) && strategy.areConnected(movieList.get(id), other)) {
+                        degrees[id]++;
+                    }
+                }
+            }
+            return degrees;
+        });
+    }
+
+    /**
+     * Returns how connected a movie is for one connection type, as computed at load time.
+     *
+     * @param movie the movie
+     * @param connectionType the connection type, e.g. "Actor"
+     * @return the connection degree, or {@code 0} if the movie or type is unknown
+     */
+    public int getConnectionDegree(Movie movie, String connectionType) {
+        Integer id = movieIds.get(movie);
+        int[] degrees = connectionDegrees.get(connectionType);
+        if (id == null || degrees == null) {
+            return 0;
+        }
+        return degrees[id];
+    }
+
+    /**
+     * Returns the index keys a movie is filed under for one connection type.
+     * Directors are compared ignoring case (see {@link DirectorConnection}), so their key is lowercased.
+     *
+     * @param movie the movie
+     * @param connectionType the connection type, e.g. "Actor" or "Genre"
+     * @return the keys for this movie, or {@code null} if the type is not indexed
+     */
+    static List<String> getConnectionKeys(Movie movie, String connectionType) {
+        switch (connectionType) {
+            case "Actor":
+                return movie.getActors() == null ? Collections.emptyList() : movie.getActors();
+            case "Genre":
+                return movie.getGenres() == null ? Collections.emptyList() : movie.getGenres();
+            case "Director":
+                String director = movie.getDirector();
+                return director == null ? Collections.emptyList()
+                        : Collections.singletonList(director.toLowerCase(Locale.ROOT));
+            case "Writer":
+                return singletonOrEmpty(movie.getWriter());
+            case "Cinematographer":
+                return singletonOrEmpty(movie.getCinematographer());
+            case "Composer":
+                return singletonOrEmpty(movie.getComposer());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Wraps a single crew name as a key list, skipping missing names.
+     *
+     * @param name the crew name, may be {@code null}
+     * @return a list with the name, or an empty list
+     */
+    private static List<String> singletonOrEmpty(String name) {
+        return name == null ? Collections.emptyList() : Collections.singletonList(name);
     }
 
     /**
-     * Look up a movie by exact title, ignoring the cases (upper/lower).
+     * Look up a movie by exact title, ignoring the cases (upper/lower) and accents.
+     * If several movies share the title, the first one loaded is returned.
      * @param title the movie title
      * @return the movie if found, else null
      */
     public Movie getMovieByTitle(String title) {
-        for (String key : movies.keySet()) {
-            if (key.equalsIgnoreCase(title)) {
-                return movies.get(key);
-            }
+        List<Movie> matches = getMoviesByTitle(title);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Look up every movie with the given title, ignoring the cases (upper/lower) and accents.
+     * @param title the movie title
+     * @return the movies with that title, empty if none
+     */
+    public List<Movie> getMoviesByTitle(String title) {
+        if (title == null) {
+            return Collections.emptyList();
         }
-        return null;
+        List<Movie> matches = moviesByTitle.get(DataCleaner.toSearchKey(title));
+        return matches == null ? Collections.emptyList() : Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns the title autocomplete shared by everything using this database.
+     * It is frozen (read-only), so it is safe to use from several games or threads at once.
+     * @return the shared autocomplete
+     */
+    public Autocomplete getAutocomplete() {
+        return autocomplete;
     }
 
     /**
@@ -87,8 +326,111 @@ public class MovieDatabase {
      * @return list of connected movies
      */
     public List<Movie> getConnectedMovies(Movie movie, ConnectionStrategy connection) {
-        List<Movie> placeholder = new ArrayList<>();
-        return placeholder;
+        IdBitmap connected = getConnectedIds(movie, connection);
+        Integer id = movieIds.get(movie);
+        if (id != null) {
+            connected = connected.andNot(IdBitmap.of(id));
+        }
+        return toMovies(connected);
+    }
+
+    /**
+     * Returns the movies that could be played next: those connected to the current movie by any
+     * of the strategies, minus the ones already played.
+     * For indexed connection types this is an OR of posting lists followed by one ANDNOT,
+     * so it never looks at movies that share nothing with the current one.
+     *
+     * @param movie the current movie
+     * @param strategies the connection strategies in play
+     * @param played the movies already played, e.g. {@link GameState#getPlayedMovies()}
+     * @return the candidate movies in load order, never including the current movie
+     */
+    public List<Movie> getCandidateMovies(Movie movie, List<ConnectionStrategy> strategies, Collection<Movie> played) {
+        List<IdBitmap> postings = new ArrayList<>();
+        for (ConnectionStrategy strategy : strategies) {
+            collectPostings(movie, strategy, postings);
+        }
+        IdBitmap excluded = toIds(played);
+        Integer id = movieIds.get(movie);
+        if (id != null) {
+            excluded.add(id);
+        }
+        return toMovies(IdBitmap.orAll(postings).andNot(excluded));
+    }
+
+    /**
+     * Returns the dense ids of the movies connected to a movie, possibly including the movie itself
+     *
+     * @param movie the reference movie
+     * @param connection the strategy used to find connections
+     * @return the union of the movie's posting lists for the strategy's type
+     */
+    private IdBitmap getConnectedIds(Movie movie, ConnectionStrategy connection) {
+        List<IdBitmap> postings = new ArrayList<>();
+        collectPostings(movie, connection, postings);
+        return IdBitmap.orAll(postings);
+    }
+
+    /**
+     * Collects the posting lists of every element a movie has for one connection type.
+     * Their union is the set of movies connected to it, possibly including the movie itself.
+     *
+     * @param movie the reference movie
+     * @param connection the strategy used to find connections
+     * @param postings receives the posting lists
+     */
+    private void collectPostings(Movie movie, ConnectionStrategy connection, List<IdBitmap> postings) {
+        Map<String, IdBitmap> index = connectionIndex.get(connection.getType());
+        List<String> keys = getConnectionKeys(movie, connection.getType());
+
+        // strategies we don't index (custom ones) fall back to checking every movie
+        if (index == null || keys == null) {
+            IdBitmap connected = new IdBitmap();
+            for (int id = 0; id < movieList.size(); id++) {
+                Movie other = movieList.get(id);
+                if (other != movie && connection.areConnected(movie, other)) {
+                    connected.add(id);
+                }
+            }
+            postings.add(connected);
+            return;
+        }
+
+        for (String key : keys) {
+            IdBitmap moviesWithKey = index.get(key);
+            if (moviesWithKey != null) {
+                postings.add(moviesWithKey);
+            }
+        }
+    }
+
+    /**
+     * Converts movies to their dense ids, skipping movies that are not in this database
+     *
+     * @param movies the movies
+     * @return their ids
+     */
+    private IdBitmap toIds(Collection<Movie> movies) {
+        IdBitmap ids = new IdBitmap();
+        for (Movie movie : movies) {
+            Integer id = movieIds.get(movie);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Converts dense ids back to movies
+     *
+     * @param ids the ids
+     * @return the movies in id order, i.e. load order
+     */
+    private List<Movie> toMovies(IdBitmap ids) {
+        List<Movie> movies = new ArrayList<>(ids.cardinality());
+        ids.forEach(id -> movies.add(movieList.get(id)));
+        return movies;
     }
 
     /**
@@ -96,7 +438,7 @@ public class MovieDatabase {
      * @return a collection of Movie objects
      */
     public Collection<Movie> getAllMovies() {
-        return movies.values();
+        return Collections.unmodifiableList(movieList);
     }
 
     /**
@@ -118,6 +460,63 @@ public class MovieDatabase {
         return genresSet;
     }
 
+    /**
+     * Gets the dense ids of all movies in a genre by scanning the genre bitmasks.
+     * Ids are positions in {@link #getAllMovies()}.
+     *
+     * @param genre the genre name, e.g. "Drama"
+     * @return a bit set with one bit per movie in the genre, empty if the genre is unknown
+     */
+    public BitSet getMovieIdsInGenre(String genre) {
+        BitSet ids = new BitSet(movieList.size());
+        int genreId = SymbolTable.GENRES.find(genre);
+        if (genreId == SymbolTable.NONE) {
+            return ids;
+        }
+        long bit = Movie.genreBit(genreId);
+        if (bit != 0) {
+            for (int id = 0; id < genreMasks.length; id++) {
+                if ((genreMasks[id] & bit) != 0) {
+                    ids.set(id);
+                }
+            }
+            return ids;
+        }
+        // genre ids past 63 have no bit, so look them up in the id arrays of the movies that overflow
+        for (int id = 0; id < movieList.size(); id++) {
+            Movie movie = movieList.get(id);
+            if (movie.hasGenreOverflow() && Arrays.binarySearch(movie.getGenreIds(), genreId) >= 0) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Gets all movies in a genre, in load order
+     *
+     * @param genre the genre name, e.g. "Drama"
+     * @return the movies in the genre, empty if the genre is unknown
+     */
+    public List<Movie> getMoviesInGenre(String genre) {
+        BitSet ids = getMovieIdsInGenre(genre);
+        List<Movie> movies = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            movies.add(movieList.get(id));
+        }
+        return movies;
+    }
+
+    /**
+     * Counts the movies in a genre
+     *
+     * @param genre the genre name, e.g. "Drama"
+     * @return the number of movies in the genre
+     */
+    public int countMoviesInGenre(String genre) {
+        return getMovieIdsInGenre(genre).cardinality();
+    }
+
     /**
      * Gets actors that appear in 10+ movies!
      * @return set of qualifying actor names
@@ -179,26 +578,89 @@ public class MovieDatabase {
      * @return a valid starting movie or null if none found
      */
     public Movie getValidStartingMovie(List<ConnectionStrategy> strategies) {
-        List<Movie> allMovies = new ArrayList<>(getAllMovies());
-        Collections.shuffle(allMovies); // randomises the order of the movies!
+        return getValidStartingMovie(strategies, ThreadLocalRandom.current(), false);
+    }
+
+    /**
+     * Draws a random starting movie that has at least one connection using the provided strategies.
+     * The eligible movies for a set of strategies are worked out once from the degree table,
+     * so every later draw is a single random pick.
+     *
+     * @param strategies list of connection strategies
+     * @param random the random source to draw with
+     * @param weightByDegree if {@code true}, better connected movies are proportionally more likely
+     * @return a valid starting movie or null if none found
+     */
+    public Movie getValidStartingMovie(List<ConnectionStrategy> strategies, Random random, boolean weightByDegree) {
+        Set<String> types = new HashSet<>();
+        for (ConnectionStrategy strategy : strategies) {
+            types.add(strategy.getType());
+        }
+        StartingPool pool = startingPools.computeIfAbsent(types, t -> buildStartingPool(strategies));
+        if (pool.movies.length == 0) {
+            return null; // Just in case
+        }
+        if (!weightByDegree) {
+            return pool.movies[random.nextInt(pool.movies.length)];
+        }
+        // pick the first movie whose running total of degrees passes a random point
+        long target = random.nextLong(pool.cumulativeDegrees[pool.movies.length - 1]);
+        int index = Arrays.binarySearch(pool.cumulativeDegrees, target + 1);
+        return pool.movies[index >= 0 ? index : -index - 1];
+    }
+
+    /**
+     * Collects every movie that can start a game with the given strategies.
+     *
+     * @param strategies list of connection strategies
+     * @return the eligible movies with their running degree totals
+     */
+    private StartingPool buildStartingPool(List<ConnectionStrategy> strategies) {
+        List<int[]> degreeTables = new ArrayList<>();
+        for (ConnectionStrategy strategy : strategies) {
+            degreeTables.add(getDegrees(strategy));
+        }
 
-        for (Movie movie : allMovies) {
+        List<Movie> eligible = new ArrayList<>();
+        List<Long> totals = new ArrayList<>();
+        long total = 0;
+        for (int id = 0; id < movieList.size(); id++) {
+            Movie movie = movieList.get(id);
             if (movie == null) continue;
 
             if (movie.getTitle() == null || movie.getTitle().isEmpty()) continue;
             if (movie.getActors() == null || movie.getActors().isEmpty()) continue;
             if (movie.getDirector() == null || movie.getDirector().equals("null")) continue;
 
-            for (Movie other : getAllMovies()) {
-                if (other == null || other == movie) continue;
-
-                for (ConnectionStrategy strategy : strategies) {
-                    if (strategy.areConnected(movie, other)) {
-                        return movie; // Movie that is connected!!
-                    }
-                }
+            long degree = 0;
+            for (int[] degrees : degreeTables) {
+                degree += degrees[id];
+            }
+            if (degree > 0) { // Movie that is connected!!
+                total += degree;
+                eligible.add(movie);
+                totals.add(total);
             }
         }
-        return null; // Just in case
+
+        long[] cumulativeDegrees = new long[totals.size()];
+        for (int i = 0; i < cumulativeDegrees.length; i++) {
+            cumulativeDegrees[i] = totals.get(i);
+        }
+        return new StartingPool(eligible.toArray(new Movie[0]), cumulativeDegrees);
+    }
+
+    /**
+     * The movies that can start a game for one set of strategies,
+     * with a running total of their degrees for weighted draws.
+     */
+    private static class StartingPool {
+        private final Movie[] movies;
+        private final long[] cumulativeDegrees;
+
+        StartingPool(Movie[] movies, long[] cumulativeDegrees) {
+            this.movies = movies;
+            this.cumulativeDegrees = cumulativeDegrees;
+        }
     }
 }
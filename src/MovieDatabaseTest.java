@@ -78,4 +78,124 @@ public class MovieDatabaseTest {
         assertNotNull("Should return empty list", connected);
         assertTrue(connected.isEmpty());
     }
+
+    @Test
+    public void testGetConnectedMoviesUsesIndex() {
+        Movie a = new Movie("A", 2000, Arrays.asList("Actor 1", "Actor 2"), "Nolan", "W1", "C1", "M1", Arrays.asList("Drama"));
+        Movie b = new Movie("B", 2001, Arrays.asList("Actor 2"), "nolan", "W2", "C2", "M2", Arrays.asList("Comedy"));
+        Movie c = new Movie("C", 2002, Arrays.asList("Actor 3"), "Other", "W1", "C3", "M3", Arrays.asList("Drama"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a, b, c));
+
+        assertEquals(List.of(b), small.getConnectedMovies(a, new ActorConnection()));
+        assertEquals(List.of(b), small.getConnectedMovies(a, new DirectorConnection())); // ignores case
+        assertEquals(List.of(c), small.getConnectedMovies(a, new WriterConnection()));
+        assertEquals(List.of(c), small.getConnectedMovies(a, new GenreConnection()));
+        assertTrue(small.getConnectedMovies(a, new ComposerConnection()).isEmpty());
+    }
+
+    @Test
+    public void testGetConnectedMoviesMatchesAreConnected() {
+        Movie avatar = database.getMovieByTitle("Avatar");
+        assertNotNull(avatar);
+        ConnectionStrategy actor = new ActorConnection();
+
+        Set<Movie> expected = new HashSet<>();
+        for (Movie other : database.getAllMovies()) {
+            if (other != avatar && actor.areConnected(avatar, other)) {
+                expected.add(other);
+            }
+        }
+        assertEquals(expected, new HashSet<>(database.getConnectedMovies(avatar, actor)));
+    }
+
+    @Test
+    public void testConnectionDegree() {
+        Movie a = new Movie("A", 2000, Arrays.asList("Actor 1", "Actor 2"), "D1", null, null, null, Arrays.asList("Drama"));
+        Movie b = new Movie("B", 2001, Arrays.asList("Actor 1", "Actor 2"), "D2", null, null, null, Arrays.asList("Drama"));
+        Movie c = new Movie("C", 2002, Arrays.asList("Actor 3"), "D3", null, null, null, Arrays.asList("Drama"));
+        Movie d = new Movie("D", 2003, Arrays.asList("Actor 2", "Actor 3"), "D4", null, null, null, Arrays.asList("Comedy"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a, b, c, d));
+
+        assertEquals(2, small.getConnectionDegree(a, "Actor")); // B through two actors, and D
+        assertEquals(3, small.getConnectionDegree(d, "Actor"));
+        assertEquals(1, small.getConnectionDegree(c, "Actor"));
+        assertEquals(2, small.getConnectionDegree(c, "Genre"));
+        assertEquals(0, small.getConnectionDegree(c, "Unknown"));
+    }
+
+    @Test
+    public void testValidStartingMovieOnlyDrawsConnectedMovies() {
+        Movie a = new Movie("A", 2000, Arrays.asList("Actor 1"), "D1", null, null, null, Arrays.asList("Drama"));
+        Movie b = new Movie("B", 2001, Arrays.asList("Actor 1"), "D2", null, null, null, Arrays.asList("Comedy"));
+        Movie c = new Movie("C", 2002, Arrays.asList("Actor 3"), "D3", null, null, null, Arrays.asList("Horror"));
+        Movie noDirector = new Movie("D", 2003, Arrays.asList("Actor 1"), null, null, null, null, Arrays.asList("Drama"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a, b, c, noDirector));
+        List<ConnectionStrategy> strategies = List.of(new ActorConnection());
+
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            Movie start = small.getValidStartingMovie(strategies, random, i % 2 == 0);
+            assertTrue(start == a || start == b);
+        }
+        assertNull(small.getValidStartingMovie(List.of(new ComposerConnection())));
+    }
+
+    @Test
+    public void testGetMovieByTitleIgnoresCaseAndAccents() {
+        Movie amelie = new Movie("Amélie", 2001, Arrays.asList("Audrey Tautou"), "Jean-Pierre Jeunet", null, null, null, Arrays.asList("Comedy"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(amelie));
+
+        assertSame(amelie, small.getMovieByTitle("amelie"));
+        assertSame(amelie, small.getMovieByTitle("AMÉLIE"));
+        assertNull(small.getMovieByTitle("Amelia"));
+    }
+
+    @Test
+    public void testGetMoviesByTitleKeepsSharedTitles() {
+        Movie original = new Movie("Solaris", 1972, Arrays.asList("Natalya Bondarchuk"), "Andrei Tarkovsky", null, null, null, Arrays.asList("Drama"));
+        Movie remake = new Movie("Solaris", 2002, Arrays.asList("George Clooney"), "Steven Soderbergh", null, null, null, Arrays.asList("Drama"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(original, remake));
+
+        assertEquals(List.of(original, remake), small.getMoviesByTitle("solaris"));
+        assertSame(original, small.getMovieByTitle("Solaris"));
+        assertEquals(2, small.getAllMovies().size());
+        assertTrue(small.getMoviesByTitle("Unknown").isEmpty());
+    }
+
+    @Test
+    public void testAutocompleteIsSharedAndFrozen() {
+        Movie a = new Movie("Alien", 1979, Arrays.asList("Sigourney Weaver"), "Ridley Scott", null, null, null, Arrays.asList("Horror"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a));
+        assertSame(small.getAutocomplete(), small.getAutocomplete());
+        assertTrue(small.getAutocomplete().isFrozen());
+        assertEquals(List.of(a), small.searchSuggestions("ali"));
+    }
+
+    @Test
+    public void testMoviesInGenre() {
+        Movie a = new Movie("A", 2000, null, null, null, null, null, Arrays.asList("Drama", "Comedy"));
+        Movie b = new Movie("B", 2001, null, null, null, null, null, Arrays.asList("Horror"));
+        Movie c = new Movie("C", 2002, null, null, null, null, null, Arrays.asList("Drama"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a, b, c));
+
+        assertEquals(List.of(a, c), small.getMoviesInGenre("Drama"));
+        assertEquals(2, small.countMoviesInGenre("Drama"));
+        assertEquals(BitSet.valueOf(new long[]{0b010}), small.getMovieIdsInGenre("Horror"));
+        assertTrue(small.getMoviesInGenre("No Such Genre").isEmpty());
+    }
+
+    @Test
+    public void testCandidateMoviesSkipPlayedMovies() {
+        Movie a = new Movie("A", 2000, Arrays.asList("Actor 1"), "D1", "W1", null, null, Arrays.asList("Drama"));
+        Movie b = new Movie("B", 2001, Arrays.asList("Actor 1"), "D2", null, null, null, Arrays.asList("Comedy"));
+        Movie c = new Movie("C", 2002, Arrays.asList("Actor 2"), "D3", "W1", null, null, Arrays.asList("Horror"));
+        Movie d = new Movie("D", 2003, Arrays.asList("Actor 1"), "D4", null, null, null, Arrays.asList("Western"));
+        Movie e = new Movie("E", 2004, Arrays.asList("Actor 3"), "D5", null, null, null, Arrays.asList("Comedy"));
+        MovieDatabase small = new MovieDatabase(Arrays.asList(a, b, c, d, e));
+        List<ConnectionStrategy> strategies = List.of(new ActorConnection(), new WriterConnection());
+
+        assertEquals(List.of(b, c, d), small.getCandidateMovies(a, strategies, Set.of()));
+        assertEquals(List.of(c), small.getCandidateMovies(a, strategies, Set.of(a, b, d)));
+        assertTrue(small.getCandidateMovies(e, strategies, Set.of()).isEmpty());
+    }
 }
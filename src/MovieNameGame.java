@@ -15,9 +15,10 @@ public class MovieNameGame {
      * It sets up all required components and handles the control flow
      * of the game, including error handling and restarting the game upon user input.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments: {@code --legal-moves} only suggests movies that are valid moves.
      */
     public static void main(String[] args) {
+        boolean legalMovesOnly = Arrays.asList(args).contains("--legal-moves");
         GameView view = new GameView();
         try {
             boolean playAgain;
@@ -37,6 +38,7 @@ public class MovieNameGame {
                     GameController gameController = new GameController(
                             gameState, view, movieDatabase, connectionStrategies
                     );
+                    gameController.setLegalMovesOnly(legalMovesOnly);
 
                     gameController.startGame();
                 } catch (Exception e) {
@@ -0,0 +1,241 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes a binary snapshot of the cleaned movie data, so the game can start
+ * without parsing the TMDB CSV files again.
+ * <p>
+ * Layout (all numbers big-endian):
+ * <pre>
+ * header   int magic, int version, long source checksum
+ * strings  int count, then per string: int byte length, UTF-8 bytes
+ * movies   int count, then per movie: int title, int year, double popularity,
+ *          int director, int writer, int cinematographer, int composer,
+ *          int actor count (-1 for no list), actor refs, int genre count (-1 for no list), genre refs
+ * </pre>
+ * Every name is stored once in the string table and movies refer to it by index ({@code -1} for
+ * {@code null}), so each actor or genre name is a single shared String after loading.
+ * The snapshot is only used if its checksum matches the current source files.
+ */
+public class MovieSnapshot {
+    private static final int MAGIC = 0x4D4E4753; // "MNGS"
+    // bump whenever the layout above changes; older snapshots are then ignored and rebuilt
+    private static final int VERSION = 1;
+    private static final int NONE = -1;
+
+    /**
+     * Computes one checksum over the contents and sizes of the given files.
+     *
+     * @param files the source files, e.g. the two TMDB CSVs
+     * @return the combined CRC32 checksum
+     * @throws IOException if a file cannot be read
+     */
+    public static long checksum(String... files) throws IOException {
+        CRC32 crc = new CRC32();
+        for (String file : files) {
+            try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+                long size = channel.size();
+                crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, size));
+                for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+                    long length = Math.min(Integer.MAX_VALUE, size - position);
+                    crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Writes movies to a snapshot file. The file is written next to the target and then moved
+     * into place, so a crash never leaves a half-written snapshot behind.
+     *
+     * @param file           the snapshot file
+     * @param sourceChecksum checksum of the files the movies were imported from
+     * @param movies         the movies to store
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(String file, long sourceChecksum, Collection<Movie> movies) throws IOException {
+        // string table: every distinct name once, in first-seen order
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (Movie movie : movies) {
+            intern(stringIds, movie.getTitle());
+            intern(stringIds, movie.getDirector());
+            intern(stringIds, movie.getWriter());
+            intern(stringIds, movie.getCinematographer());
+            intern(stringIds, movie.getComposer());
+            if (movie.getActors() != null) {
+                for (String actor : movie.getActors()) {
+                    intern(stringIds, actor);
+                }
+            }
+            if (movie.getGenres() != null) {
+                for (String genre : movie.getGenres()) {
+                    intern(stringIds, genre);
+                }
+            }
+        }
+
+        Path target = Paths.get(file);
+        Path temp = Paths.get(file + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sourceChecksum);
+
+            out.writeInt(stringIds.size());
+            for (String name : stringIds.keySet()) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(movies.size());
+            for (Movie movie : movies) {
+                out.writeInt(ref(stringIds, movie.getTitle()));
+                out.writeInt(movie.getReleaseYear());
+                out.writeDouble(movie.getPopularity());
+                out.writeInt(ref(stringIds, movie.getDirector()));
+                out.writeInt(ref(stringIds, movie.getWriter()));
+                out.writeInt(ref(stringIds, movie.getCinematographer()));
+                out.writeInt(ref(stringIds, movie.getComposer()));
+                writeRefs(out, stringIds, movie.getActors());
+                writeRefs(out, stringIds, movie.getGenres());
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps a snapshot file and rebuilds the movies stored in it.
+     *
+     * @param file           the snapshot file
+     * @param sourceChecksum checksum of the current source files
+     * @return the movies, or {@code null} if the snapshot is missing, from another version,
+     *         built from different source files, or damaged
+     */
+    public static List<Movie> read(String file, long sourceChecksum) {
+        try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != sourceChecksum) {
+                return null; // stale or foreign file, caller re-imports the CSVs
+            }
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int count = buffer.getInt();
+            List<Movie> movies = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String title = lookup(strings, buffer.getInt());
+                int releaseYear = buffer.getInt();
+                double popularity = buffer.getDouble();
+                String director = lookup(strings, buffer.getInt());
+                String writer = lookup(strings, buffer.getInt());
+                String cinematographer = lookup(strings, buffer.getInt());
+                String composer = lookup(strings, buffer.getInt());
+                List<String> actors = readRefs(buffer, strings);
+                List<String> genres = readRefs(buffer, strings);
+
+                Movie movie = new Movie(title, releaseYear, actors, director, writer, cinematographer, composer, genres);
+                movie.setPopularity(popularity);
+                movies.add(movie);
+            }
+            return movies;
+        } catch (NoSuchFileException e) {
+            return null; // first run, nothing cached yet
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable movie snapshot " + file + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Adds a name to the string table if it is not there yet.
+     *
+     * @param stringIds the string table being built
+     * @param name      the name, may be {@code null}
+     */
+    private static void intern(Map<String, Integer> stringIds, String name) {
+        if (name != null) {
+            stringIds.putIfAbsent(name, stringIds.size());
+        }
+    }
+
+    /**
+     * Returns the string table index of a name.
+     *
+     * @param stringIds the string table
+     * @param name      the name, may be {@code null}
+     * @return its index, or {@code -1} for {@code null}
+     */
+    private static int ref(Map<String, Integer> stringIds, String name) {
+        return name == null ? NONE : stringIds.get(name);
+    }
+
+    /**
+     * Writes a list of names as a count followed by string table indexes.
+     *
+     * @param out       the output
+     * @param stringIds the string table
+     * @param names     the names, may be {@code null}
+     * @throws IOException if writing fails
+     */
+    private static void writeRefs(DataOutputStream out, Map<String, Integer> stringIds, List<String> names)
+            throws IOException {
+        if (names == null) {
+            out.writeInt(NONE);
+            return;
+        }
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeInt(ref(stringIds, name));
+        }
+    }
+
+    /**
+     * Reads a list of names written by {@link #writeRefs}.
+     *
+     * @param buffer  the snapshot
+     * @param strings the string table
+     * @return the names, or {@code null} if no list was stored
+     */
+    private static List<String> readRefs(ByteBuffer buffer, String[] strings) {
+        int size = buffer.getInt();
+        if (size == NONE) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(lookup(strings, buffer.getInt()));
+        }
+        return names;
+    }
+
+    /**
+     * Resolves a string table index.
+     *
+     * @param strings the string table
+     * @param ref     the index, {@code -1} for {@code null}
+     * @return the name or {@code null}
+     */
+    private static String lookup(String[] strings, int ref) {
+        return ref == NONE ? null : strings[ref];
+    }
+}
@@ -0,0 +1,83 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MovieSnapshotTest {
+
+    private File snapshot;
+    private Movie avatar;
+    private Movie titanic;
+
+    @Before
+    public void setUp() throws IOException {
+        snapshot = File.createTempFile("movies", ".bin");
+        snapshot.deleteOnExit();
+
+        avatar = new Movie("Avatar", 2009, Arrays.asList("Sam Worthington", "Zoe Saldana"),
+                "James Cameron", null, "Mauro Fiore", "James Horner", Arrays.asList("Action", "Adventure"));
+        avatar.setPopularity(150.4);
+        titanic = new Movie("Titanic", 1997, null,
+                "James Cameron", "James Cameron", null, "James Horner", Arrays.asList("Drama", "Romance"));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        MovieSnapshot.write(snapshot.getPath(), 42L, Arrays.asList(avatar, titanic));
+        List<Movie> loaded = MovieSnapshot.read(snapshot.getPath(), 42L);
+
+        assertNotNull(loaded);
+        assertEquals(2, loaded.size());
+        Movie first = loaded.get(0);
+        assertEquals("Avatar", first.getTitle());
+        assertEquals(2009, first.getReleaseYear());
+        assertEquals(150.4, first.getPopularity(), 0);
+        assertEquals(Arrays.asList("Sam Worthington", "Zoe Saldana"), first.getActors());
+        assertEquals("James Cameron", first.getDirector());
+        assertNull(first.getWriter());
+        assertEquals("Mauro Fiore", first.getCinematographer());
+        assertEquals(Arrays.asList("Action", "Adventure"), first.getGenres());
+
+        Movie second = loaded.get(1);
+        assertNull(second.getActors());
+        assertEquals("James Cameron", second.getWriter());
+        // shared names come back as one String instance
+        assertSame(first.getDirector(), second.getDirector());
+        assertSame(first.getComposer(), second.getComposer());
+    }
+
+    @Test
+    public void testStaleChecksumIsIgnored() throws IOException {
+        MovieSnapshot.write(snapshot.getPath(), 42L, Arrays.asList(avatar));
+        assertNull(MovieSnapshot.read(snapshot.getPath(), 43L));
+    }
+
+    @Test
+    public void testMissingOrDamagedSnapshotIsIgnored() throws IOException {
+        assertNull(MovieSnapshot.read(snapshot.getPath() + ".missing", 42L));
+
+        MovieSnapshot.write(snapshot.getPath(), 42L, Arrays.asList(avatar));
+        byte[] bytes = Files.readAllBytes(snapshot.toPath());
+        Files.write(snapshot.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(MovieSnapshot.read(snapshot.getPath(), 42L));
+    }
+
+    @Test
+    public void testChecksumChangesWithContent() throws IOException {
+        File source = File.createTempFile("source", ".csv");
+        source.deleteOnExit();
+        Files.write(source.toPath(), "id,title\n1,Avatar\n".getBytes(StandardCharsets.UTF_8));
+        long before = MovieSnapshot.checksum(source.getPath());
+        assertEquals(before, MovieSnapshot.checksum(source.getPath()));
+
+        Files.write(source.toPath(), "id,title\n1,Avatar 2\n".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(before, MovieSnapshot.checksum(source.getPath()));
+    }
+}
@@ -81,4 +81,47 @@ public class MovieTest {
     public void testToStringReturnsTitle() {
         assertEquals("The Great Escape", movie.toString());
     }
+
+    @Test
+    public void testIdsFollowNames() {
+        Movie other = new Movie("The Magnificent Seven", 1960, Arrays.asList("Actor Two", "Actor Three", "Actor Two"),
+                "JOHN STURGES", null, "Charles Lang", "Elmer Bernstein", Arrays.asList("Western"));
+
+        int[] ids = other.getActorIds();
+        assertEquals(2, ids.length); // duplicates dropped
+        assertTrue(ids[0] < ids[1]);
+        assertTrue(Arrays.binarySearch(ids, SymbolTable.PEOPLE.find("Actor Two")) >= 0);
+        assertEquals(movie.getDirectorId(), other.getDirectorId()); // directors ignore case
+        assertEquals(movie.getComposerId(), other.getComposerId());
+        assertEquals(SymbolTable.NONE, other.getWriterId());
+        assertEquals(SymbolTable.GENRES.find("Western"), other.getGenreIds()[0]);
+
+        other.setComposer("Someone Else");
+        assertNotEquals(movie.getComposerId(), other.getComposerId());
+    }
+
+    @Test
+    public void testNamesAreSharedAndCopied() {
+        List<String> cast = new java.util.ArrayList<>(Arrays.asList(new String("Actor One")));
+        Movie other = new Movie("Other", 2000, cast, null, null, null, null, null);
+        assertSame(movie.getActors().get(0), other.getActors().get(0));
+
+        cast.add("Actor Two");
+        assertEquals(1, other.getActors().size());
+        assertNull(other.getGenres());
+        assertEquals(0, other.getGenreIds().length);
+    }
+
+    @Test
+    public void testGenreMask() {
+        Movie other = new Movie("Other", 2000, null, null, null, null, null, Arrays.asList("Western", "Drama"));
+        long western = Movie.genreBit(SymbolTable.GENRES.find("Western"));
+        long drama = Movie.genreBit(SymbolTable.GENRES.find("Drama"));
+
+        assertEquals(western | drama, other.getGenreMask());
+        assertNotEquals(0, movie.getGenreMask() & other.getGenreMask());
+        assertFalse(other.hasGenreOverflow());
+        assertEquals(0, Movie.genreBit(64));
+        assertEquals(0, Movie.genreBit(SymbolTable.NONE));
+    }
 }
@@ -1,21 +1,32 @@
 /**
  * Creates a node for autocomplete using trie - reworked from autocomplete homework
  * Each node can contain 4 things; a term, word count, prefixes and references
+ * <p>
+ * Children are kept in two small arrays sorted by character, sized to the number of children,
+ * instead of one 256-slot array per node. Most nodes in a title trie have a single child,
+ * so this keeps each node to a few dozen bytes and allows any {@code char}, not just ASCII.
  */
 public class Node {
+    // shared by every node without children, so leaves allocate no arrays
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
 
     private Term term;
     private int words;
     private int prefixes;
-    private Node[] references;
+    private double maxWeight; // highest term weight anywhere in this subtree
+    private int termStart; // trie-order positions of the terms in this subtree, see Autocomplete#freeze
+    private int termEnd;
+    private char[] keys;
+    private Node[] children;
 
 
     /**
-     * Constructs a node with references for all 256 ASCII chars
+     * Constructs a node without children
      */
     public Node() {
-        //ASCII used here
-        this.references = new Node[256];
+        this.keys = NO_KEYS;
+        this.children = NO_CHILDREN;
     }
 
     /**
@@ -25,8 +36,8 @@ public class Node {
      * @param movie the movie associated with the term
      */
     public Node(String query, Movie movie) {
+        this();
         this.term = new Term(query, movie);
-        this.references = new Node[256];
     }
 
     /**
@@ -38,6 +49,15 @@ public class Node {
         this.term = term;
     }
 
+    /**
+     * Returns the term stored in the node
+     *
+     * @return the term, or {@code null} if no word ends here
+     */
+    public Term getTerm() {
+        return term;
+    }
+
     /**
      * Returns the number of complete words
      *
@@ -75,11 +95,137 @@ public class Node {
     }
 
     /**
-     * Returns array of nodes references for the node
+     * Returns the highest weight of any term in this node's subtree
+     * Used to rank and prune when looking for the top suggestions
+     *
+     * @return the maximum weight
+     */
+    public double getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Sets the highest weight of any term in this node's subtree
+     *
+     * @param maxWeight the maximum weight
+     */
+    public void setMaxWeight(double maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the trie-order position of the first term in this subtree
+     * Terms are numbered in the order {@link Autocomplete#getSuggestions(String)} returns them,
+     * so a node's own term, if any, has this position
+     *
+     * @return the first position, set when the trie is frozen
+     */
+    public int getTermStart() {
+        return termStart;
+    }
+
+    /**
+     * Returns the position after the last term in this subtree
+     *
+     * @return the end position (exclusive), set when the trie is frozen
+     */
+    public int getTermEnd() {
+        return termEnd;
+    }
+
+    /**
+     * Sets the range of trie-order positions of the terms in this subtree
+     *
+     * @param termStart the first position
+     * @param termEnd   the position after the last one
+     */
+    public void setTermRange(int termStart, int termEnd) {
+        this.termStart = termStart;
+        this.termEnd = termEnd;
+    }
+
+    /**
+     * Returns the child reached by the given character
+     *
+     * @param c the character to follow
+     * @return the child node, or {@code null} if there is none
+     */
+    public Node getChild(char c) {
+        int index = indexOf(c);
+        return index >= 0 ? children[index] : null;
+    }
+
+    /**
+     * Returns the child reached by the given character, creating it if needed
+     * The new child is inserted so that children stay sorted by character
+     *
+     * @param c the character to follow
+     * @return the existing or newly created child node
+     */
+    public Node addChild(char c) {
+        int index = indexOf(c);
+        if (index >= 0) {
+            return children[index];
+        }
+        int insertAt = -index - 1;
+        int count = keys.length;
+
+        char[] newKeys = new char[count + 1];
+        Node[] newChildren = new Node[count + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insertAt);
+        System.arraycopy(children, 0, newChildren, 0, insertAt);
+        System.arraycopy(keys, insertAt, newKeys, insertAt + 1, count - insertAt);
+        System.arraycopy(children, insertAt, newChildren, insertAt + 1, count - insertAt);
+
+        Node child = new Node();
+        newKeys[insertAt] = c;
+        newChildren[insertAt] = child;
+        this.keys = newKeys;
+        this.children = newChildren;
+        return child;
+    }
+
+    /**
+     * Returns the number of children of this node
+     *
+     * @return the number of children
+     */
+    public int getChildCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the character leading to the i-th child, in ascending character order
+     *
+     * @param i the child position
+     * @return the character of that child
+     */
+    public char getKeyAt(int i) {
+        return keys[i];
+    }
+
+    /**
+     * Returns the i-th child, in ascending character order
+     *
+     * @param i the child position
+     * @return the child node
+     */
+    public Node getChildAt(int i) {
+        return children[i];
+    }
+
+    /**
+     * Returns array of nodes references for the node, indexed by ASCII char
+     * This is a copy in the old 256-slot layout, built on each call, so writing to it
+     * does not change the trie and children above char 255 are left out
      *
      * @return an array of Node references
      */
     public Node[] getReferences() {
+        Node[] references = new Node[256];
+        for (int i = 0; i < keys.length && keys[i] < 256; i++) {
+            references[keys[i]] = children[i];
+        }
         return references;
     }
 
@@ -89,7 +235,29 @@ public class Node {
      * @return a newly created Term object with the same data
      */
     public Term createCopyTerm() {
-        Term tnew = new Term(this.term.getTerm(), this.term.getMovie());
+        Term tnew = new Term(this.term.getTerm(), this.term.getMovie(), this.term.getWeight());
         return tnew;
     }
-}
\ No newline at end of file
+
+    /**
+     * Binary search for a character among the children
+     *
+     * @param c the character to look for
+     * @return its position, or {@code -(insertion point) - 1} if absent
+     */
+    private int indexOf(char c) {
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < c) {
+                low = mid + 1;
+            } else if (keys[mid] > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
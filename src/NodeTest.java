@@ -38,4 +38,27 @@ public class NodeTest {
         Term copy = t.createCopyTerm();
         assertEquals("hi", copy.getTerm());
     }
+
+    @org.junit.Test
+    public void testAddChildKeepsChildrenSorted() {
+        Node t = new Node();
+        Node b = t.addChild('b');
+        Node a = t.addChild('a');
+        assertSame(b, t.addChild('b')); // existing child is reused
+        assertEquals(2, t.getChildCount());
+        assertEquals('a', t.getKeyAt(0));
+        assertSame(a, t.getChildAt(0));
+        assertSame(b, t.getChild('b'));
+        assertNull(t.getChild('c'));
+        assertSame(a, t.getReferences()[97]);
+    }
+
+    @org.junit.Test
+    public void testAddChildBeyondAscii() {
+        Node t = new Node();
+        Node child = t.addChild('\u00e9');
+        t.addChild('\u4e2d');
+        assertSame(child, t.getChild('\u00e9'));
+        assertEquals(2, t.getChildCount());
+    }
 }
\ No newline at end of file
@@ -7,7 +7,8 @@ import java.util.*;
 public class Player {
     private String name;
     private int score;
-    private List<Movie> moviesPlayed; // list of movies player has played
+    private List<Movie> moviesPlayed; // list of movies player has played, in order
+    private Set<Movie> playedSet; // same movies, for constant time duplicate checks
     private WinConditionStrategy winCondition;
 
     /**
@@ -21,6 +22,7 @@ public class Player {
         this.name = name;
         this.score = 0;
         this.moviesPlayed = new ArrayList<>();
+        this.playedSet = new HashSet<>();
         this.winCondition = null; // default not set
     }
 
@@ -51,29 +53,46 @@ public class Player {
      */
 
     public void addMovie(Movie movie) {
-        if (!moviesPlayed.contains(movie)) {  // make sure user can't add same movie twice
+        if (playedSet.add(movie)) {  // make sure user can't add same movie twice
             moviesPlayed.add(movie);
             score++;  // add score if user adds movie
+            if (winCondition != null) {
+                winCondition.onMoviePlayed(movie); // keeps win progress current without rescanning
+            }
         }
     }
 
     /**
      * Returns the list of movies the player has played.
      *
-     * @return a list of {@code Movie} objects played by the player
+     * @return a read-only list of {@code Movie} objects played by the player, in the order played
      */
     public List<Movie> getMoviesPlayed() {
-        return moviesPlayed;
+        return Collections.unmodifiableList(moviesPlayed);
+    }
+
+    /**
+     * Checks whether the player has already played a movie, in constant time.
+     *
+     * @param movie the movie to check
+     * @return {@code true} if the movie is in the player's played movies
+     */
+    public boolean hasPlayed(Movie movie) {
+        return playedSet.contains(movie);
     }
 
     /**
      * Sets the win condition strategy for the player.
+     * The strategy is attached to this player so it can count the movies played from now on.
      *
      * @param winCondition the win condition strategy to assign
      */
 
     public void setWinCondition(WinConditionStrategy winCondition) {
         this.winCondition = winCondition;
+        if (winCondition != null) {
+            winCondition.onAttach(this);
+        }
     }
 
     /**
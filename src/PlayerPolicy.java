@@ -0,0 +1,21 @@
+import java.util.Random;
+
+/**
+ * Decides which movie a scripted or computer player plays on its turn.
+ * <p>
+ * Policies let {@link GameEngine#playGame} run complete games without a terminal,
+ * e.g. for simulations or regression tests.
+ */
+public interface PlayerPolicy {
+
+    /**
+     * Chooses the next movie for the current player of the engine's game.
+     * The engine checks the move, so a policy may return movies that turn out to be invalid;
+     * after a few invalid attempts the player loses the turn as if the timer ran out.
+     *
+     * @param engine the engine running the game, for its state, database and connection strategies
+     * @param random the random source for this game, so seeded games can be replayed
+     * @return the movie to play, or {@code null} to give up
+     */
+    Movie chooseMove(GameEngine engine, Random random);
+}
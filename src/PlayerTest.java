@@ -173,5 +173,16 @@ public class PlayerTest {
         player1.addMovie(movie1);
         assertFalse(player1.hasWon());
     }
+
+    @Test
+    public void testHasPlayedKeepsOrderAndSkipsDuplicates() {
+        for (int i = 0; i < 1000; i++) {
+            player1.addMovie(i % 2 == 0 ? movie2 : movie1);
+        }
+        assertTrue(player1.hasPlayed(movie1));
+        assertFalse(player2.hasPlayed(movie1));
+        assertEquals(Arrays.asList(movie2, movie1), player1.getMoviesPlayed());
+        assertEquals(2, player1.getScore());
+    }
 }
 // test
@@ -0,0 +1,36 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A computer player that plays a random valid movie.
+ * Candidates come from the database's posting lists, so a move never scans the whole database.
+ */
+public class RandomMovePolicy implements PlayerPolicy {
+
+    /**
+     * Picks a random unplayed movie connected to the current one, skipping connections
+     * that have been used up.
+     *
+     * @param engine the engine running the game
+     * @param random the random source for this game
+     * @return a valid movie, or {@code null} if there is none left
+     */
+    @Override
+    public Movie chooseMove(GameEngine engine, Random random) {
+        GameState state = engine.getGameState();
+        List<Movie> candidates = engine.getMovieDatabase().getCandidateMovies(
+                state.getCurrentMovie(), engine.getConnectionStrategies(), state.getPlayedMovies());
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        // start at a random candidate and take the first valid one from there
+        int start = random.nextInt(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Movie movie = candidates.get((start + i) % candidates.size());
+            if (engine.checkMove(movie).isValid()) {
+                return movie;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,199 @@
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A thread that does all the drawing of a game, so the game thread, the timer and
+ * background work never draw on the terminal at the same time.
+ * <p>
+ * Other threads either post a {@link TurnViewModel} with {@link #show}, which only replaces the
+ * model waiting to be drawn, or run a drawing action on the render thread with {@link #draw}.
+ * Models posted faster than {@link #MAX_FRAMES_PER_SECOND} are merged into one frame,
+ * and only the parts that differ from the last frame are redrawn.
+ * <p>
+ * While the loop is not running, {@link #draw} runs the action on the calling thread.
+ */
+public class RenderLoop {
+    /** The most frames drawn per second; faster updates are merged */
+    public static final int MAX_FRAMES_PER_SECOND = 60;
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / MAX_FRAMES_PER_SECOND;
+
+    private final GameView gameView;
+
+    // guarded by this
+    private final Queue<FutureTask<?>> actions = new ArrayDeque<>();
+    private TurnViewModel pending; // latest model, null for none
+    private boolean dirty; // pending has not been drawn yet
+    private boolean screenChanged; // an action ran off the render thread, so drawn is out of date
+    private Thread thread;
+
+    // only used on the render thread; start() sets lastFrame before that thread runs,
+    // and draws on other threads clear drawn through screenChanged
+    private TurnViewModel drawn; // what the screen shows, null if unknown
+    private long lastFrame;
+
+    /**
+     * Creates a render loop for a view; call {@link #start()} to run it
+     *
+     * @param gameView the view to draw on
+     */
+    public RenderLoop(GameView gameView) {
+        this.gameView = gameView;
+    }
+
+    /**
+     * Starts the render thread, which owns the view until {@link #stop()}
+     */
+    public synchronized void start() {
+        if (thread != null) return;
+        thread = new Thread(this::run, "game-render");
+        thread.setDaemon(true); // must not keep the program alive after the screen is closed
+        lastFrame = System.nanoTime() - FRAME_NANOS;
+        thread.start();
+    }
+
+    /**
+     * Draws what is still waiting, then stops the render thread.
+     * Afterwards {@link #draw} runs actions on the calling thread again.
+     */
+    public void stop() {
+        Thread stopping;
+        synchronized (this) {
+            stopping = thread;
+            if (stopping == null) return;
+            thread = null;
+            notifyAll();
+        }
+        if (stopping == Thread.currentThread()) return;
+        try {
+            stopping.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Posts the model the turn screen should show next.
+     * Returns at once; the model is drawn with the next frame.
+     *
+     * @param model the model, or {@code null} to stop drawing the turn screen (e.g. for the winner screen)
+     */
+    public synchronized void show(TurnViewModel model) {
+        pending = model;
+        dirty = true;
+        notifyAll();
+    }
+
+    /**
+     * Runs a drawing action on the render thread and waits for it.
+     * The screen is assumed to have changed everywhere, so the next frame redraws the whole model.
+     *
+     * @param action the action, given the view
+     */
+    public void draw(Consumer<GameView> action) {
+        FutureTask<Void> task = new FutureTask<>(() -> action.accept(gameView), null);
+        synchronized (this) {
+            if (thread == null || thread == Thread.currentThread()) {
+                task = null;
+                screenChanged = true; // the render thread forgets what it drew before its next frame
+            } else {
+                actions.add(task);
+                notifyAll();
+            }
+        }
+        if (task == null) {
+            action.accept(gameView); // nobody else is drawing
+            return;
+        }
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The render thread: runs actions and draws the latest model, at most once per frame
+     */
+    private void run() {
+        while (true) {
+            FutureTask<?> action;
+            TurnViewModel model = null;
+            boolean render = false;
+            synchronized (this) {
+                while (thread != null && actions.isEmpty() && !dirty) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                action = actions.poll();
+                if (action == null && !dirty) {
+                    return; // stopped with nothing left to draw
+                }
+                long wait = lastFrame + FRAME_NANOS - System.nanoTime();
+                if (action == null && wait > 0 && thread != null) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, wait); // let more updates arrive
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    continue;
+                }
+                if (action == null) {
+                    model = pending;
+                    dirty = false;
+                    render = true;
+                }
+                if (screenChanged) {
+                    drawn = null;
+                    screenChanged = false;
+                }
+            }
+
+            if (action != null) {
+                action.run();
+                drawn = null; // the action may have drawn over anything
+            } else if (render) {
+                render(model);
+                lastFrame = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Draws the parts of a model that differ from the last frame, in one refresh
+     *
+     * @param model the model to draw, or {@code null} for nothing
+     */
+    private void render(TurnViewModel model) {
+        if (model == null) {
+            drawn = null;
+            return;
+        }
+        gameView.beginFrame();
+        try {
+            if (drawn == null || !model.getInput().equals(drawn.getInput())) {
+                gameView.updatePlayerInput(model.getInput());
+            }
+            if (drawn == null || !model.getSuggestions().equals(drawn.getSuggestions())) {
+                gameView.displaySuggestions(model.getSuggestions());
+            }
+            if (drawn == null || model.getSecondsRemaining() != drawn.getSecondsRemaining()) {
+                gameView.updateTimerOnly(model.getSecondsRemaining());
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace(); // keep drawing later frames
+        } finally {
+            gameView.endFrame();
+        }
+        drawn = model;
+    }
+}
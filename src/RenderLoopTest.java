@@ -0,0 +1,104 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link RenderLoop} class, drawing on a mocked {@link GameView}.
+ */
+public class RenderLoopTest {
+    private GameView gameView;
+    private RenderLoop renderLoop;
+
+    /**
+     * Creates a render loop on a mocked view
+     */
+    @Before
+    public void setUp() {
+        gameView = mock(GameView.class);
+        renderLoop = new RenderLoop(gameView);
+    }
+
+    /**
+     * Stops the render thread
+     */
+    @After
+    public void tearDown() {
+        renderLoop.stop();
+    }
+
+    /**
+     * Tests that updates posted faster than the frame rate are merged, and the latest one is drawn.
+     */
+    @Test
+    public void testUpdatesAreCoalesced() {
+        renderLoop.start();
+        TurnViewModel model = new TurnViewModel("", Collections.emptyList(), 30);
+        for (int i = 0; i < 1000; i++) {
+            model = model.withInput("Titanic".substring(0, i % 7 + 1) + i);
+            renderLoop.show(model);
+        }
+        renderLoop.stop(); // draws what is still waiting
+
+        verify(gameView).updatePlayerInput(model.getInput()); // the last input, "Titani999"
+        verify(gameView, atMost(100)).updatePlayerInput(anyString());
+        verify(gameView, atMost(100)).endFrame();
+    }
+
+    /**
+     * Tests that only the parts that changed are redrawn.
+     */
+    @Test
+    public void testOnlyChangedPartsAreRedrawn() {
+        renderLoop.start();
+        TurnViewModel model = new TurnViewModel("", Collections.emptyList(), 30);
+        renderLoop.show(model);
+        renderLoop.stop(); // draws the first frame
+        renderLoop.start();
+        renderLoop.show(model.withSecondsRemaining(29));
+        renderLoop.stop();
+
+        verify(gameView, times(1)).updatePlayerInput("");
+        verify(gameView).updateTimerOnly(29);
+    }
+
+    /**
+     * Tests that drawing while the loop is stopped makes the next frame redraw everything.
+     */
+    @Test
+    public void testDrawWhileStoppedRedrawsEverything() {
+        TurnViewModel model = new TurnViewModel("", Collections.emptyList(), 30);
+        renderLoop.start();
+        renderLoop.show(model);
+        renderLoop.stop();
+        renderLoop.draw(view -> view.clearScreen()); // runs on this thread
+        renderLoop.start();
+        renderLoop.show(model);
+        renderLoop.stop();
+
+        verify(gameView, times(2)).updatePlayerInput("");
+        verify(gameView, times(2)).updateTimerOnly(30);
+    }
+
+    /**
+     * Tests that drawing actions run on the render thread, and on the caller once it is stopped.
+     */
+    @Test
+    public void testDrawRunsOnRenderThread() {
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        renderLoop.start();
+        renderLoop.draw(view -> threads.add(Thread.currentThread()));
+        renderLoop.stop();
+        renderLoop.draw(view -> threads.add(Thread.currentThread()));
+
+        assertEquals(2, threads.size());
+        assertNotSame(Thread.currentThread(), threads.get(0));
+        assertSame(Thread.currentThread(), threads.get(1));
+    }
+}
@@ -0,0 +1,159 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics over many simulated games, collected by {@link BatchSimulator}.
+ * <p>
+ * Each worker fills its own report, and the reports are merged at the end, so nothing here
+ * needs to be thread-safe. Every count is a plain sum, which makes the totals the same
+ * however the games were split between threads.
+ */
+public class SimulationReport {
+    private int games;
+    private int draws;
+    private long totalMoves;
+    // "Genre/Easy" etc. -> {players who had the condition, players who won with it}
+    private final Map<String, long[]> conditionResults = new TreeMap<>();
+    // connection type -> moves made through it
+    private final Map<String, Long> connectionTypeUsage = new TreeMap<>();
+
+    /**
+     * Records one finished game
+     *
+     * @param engine the engine that played it
+     * @param difficulties the difficulty of each player's win condition, in player order
+     * @param winner the winner, or {@code null} for a draw
+     */
+    public void addGame(GameEngine engine, int[] difficulties, Player winner) {
+        games++;
+        if (winner == null) {
+            draws++;
+        }
+        totalMoves += engine.getMovesPlayed();
+        int i = 0;
+        for (Player player : engine.getGameState().getPlayers()) {
+            long[] result = conditionResults.computeIfAbsent(
+                    getConditionKey(player.getWinCondition().getConditionType(), difficulties[i++]), k -> new long[2]);
+            result[0]++;
+            if (player == winner) {
+                result[1]++;
+            }
+        }
+        for (Map.Entry<String, Integer> entry : engine.getConnectionTypeCounts().entrySet()) {
+            connectionTypeUsage.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Adds another report's games to this one
+     *
+     * @param other the report to add
+     * @return this report
+     */
+    public SimulationReport merge(SimulationReport other) {
+        games += other.games;
+        draws += other.draws;
+        totalMoves += other.totalMoves;
+        for (Map.Entry<String, long[]> entry : other.conditionResults.entrySet()) {
+            long[] result = conditionResults.computeIfAbsent(entry.getKey(), k -> new long[2]);
+            result[0] += entry.getValue()[0];
+            result[1] += entry.getValue()[1];
+        }
+        for (Map.Entry<String, Long> entry : other.connectionTypeUsage.entrySet()) {
+            connectionTypeUsage.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        return this;
+    }
+
+    /**
+     * Gets how many games were played
+     *
+     * @return the number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets how many games hit the move limit without a winner
+     *
+     * @return the number of draws
+     */
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Gets the average number of valid moves per game
+     *
+     * @return the average game length, 0 if no games were played
+     */
+    public double getAverageGameLength() {
+        return games == 0 ? 0 : (double) totalMoves / games;
+    }
+
+    /**
+     * Gets the share of players with a given win condition who won their game
+     *
+     * @param conditionType the condition type, e.g. "Genre"
+     * @param difficulty the difficulty, e.g. {@link WinConditionFactory#EASY}
+     * @return the win rate between 0 and 1, or {@code NaN} if no player had that condition
+     */
+    public double getWinRate(String conditionType, int difficulty) {
+        long[] result = conditionResults.get(getConditionKey(conditionType, difficulty));
+        return result == null ? Double.NaN : (double) result[1] / result[0];
+    }
+
+    /**
+     * Gets how many moves went through each connection type, over all games
+     *
+     * @return connection type (e.g. "Actor") to number of moves, sorted by type
+     */
+    public Map<String, Long> getConnectionTypeUsage() {
+        return Collections.unmodifiableMap(connectionTypeUsage);
+    }
+
+    /**
+     * Formats the report as a small table, one line per statistic
+     *
+     * @return the report
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Games: %d, draws: %d, average length: %.1f moves%n",
+                games, draws, getAverageGameLength()));
+        text.append("Win rate by condition:\n");
+        for (Map.Entry<String, long[]> entry : conditionResults.entrySet()) {
+            long[] result = entry.getValue();
+            text.append(String.format("  %-18s %6.1f%% of %d%n", entry.getKey(), 100.0 * result[1] / result[0], result[0]));
+        }
+        text.append("Moves by connection type:\n");
+        long total = 0;
+        for (long moves : connectionTypeUsage.values()) {
+            total += moves;
+        }
+        for (Map.Entry<String, Long> entry : connectionTypeUsage.entrySet()) {
+            text.append(String.format("  %-18s %6.1f%% (%d)%n", entry.getKey(), 100.0 * entry.getValue() / total, entry.getValue()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Builds the key a condition's results are stored under
+     *
+     * @param conditionType the condition type
+     * @param difficulty the difficulty
+     * @return e.g. "Genre/Easy"
+     */
+    private static String getConditionKey(String conditionType, int difficulty) {
+        String level = switch (difficulty) {
+            case WinConditionFactory.EASY -> "Easy";
+            case WinConditionFactory.MEDIUM -> "Medium";
+            case WinConditionFactory.HARD -> "Hard";
+            default -> "Level " + difficulty;
+        };
+        return conditionType + "/" + level;
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Suggestions for text that is typed one key at a time, e.g. during one turn.
+ * <p>
+ * The session keeps the trie node of every prefix of the text typed so far, and the suggestions
+ * found for them. Typing a character follows one child from the last node, and backspace just
+ * drops it, so nothing is looked up again from the root. When the shorter prefix's suggestions
+ * are known, the new ones are usually just those that still match: if a term of the shorter
+ * prefix matches the new character, every better term of the new prefix was in that list too.
+ * Only when too few are left is the new prefix's subtree searched.
+ * This holds just the same when only some terms are allowed, e.g. the legal moves of a turn.
+ * <p>
+ * A session is used by one thread at a time; create one per player input with
+ * {@link Autocomplete#newSession(int)}.
+ */
+public class SuggestionSession {
+    private final Autocomplete autocomplete;
+    private final int k;
+    private final BitSet allowed; // null to allow every term
+    private final StringBuilder prefix = new StringBuilder();
+    // path.get(i) is the node of the first i chars, or null once the text has left the trie
+    private final List<Node> path = new ArrayList<>();
+    // results.get(i) are the suggestions for the first i chars, or null until they are asked for
+    private final List<List<ITerm>> results = new ArrayList<>();
+
+    /**
+     * Creates a session at the empty prefix
+     *
+     * @param autocomplete the trie to search
+     * @param k            the number of suggestions to return
+     * @param allowed      the terms that may be suggested, from {@link Autocomplete#getTermBits},
+     *                     or {@code null} to allow all; must not change while the session is used
+     */
+    public SuggestionSession(Autocomplete autocomplete, int k, BitSet allowed) {
+        this.autocomplete = autocomplete;
+        this.k = k;
+        this.allowed = allowed;
+        path.add(autocomplete.getRoot());
+        results.add(null);
+    }
+
+    /**
+     * Adds a typed character to the end of the prefix
+     *
+     * @param c the character
+     */
+    public void append(char c) {
+        Node last = path.get(path.size() - 1);
+        prefix.append(c);
+        path.add(last == null ? null : last.getChild(Character.toLowerCase(c)));
+        results.add(null);
+    }
+
+    /**
+     * Removes the last character of the prefix, going back to its suggestions
+     */
+    public void backspace() {
+        if (prefix.length() == 0) {
+            return;
+        }
+        prefix.setLength(prefix.length() - 1);
+        path.remove(path.size() - 1);
+        results.remove(results.size() - 1);
+    }
+
+    /**
+     * Moves the session to another prefix, keeping everything known about the part it shares with the current one
+     *
+     * @param text the new prefix
+     */
+    public void setPrefix(String text) {
+        int common = 0;
+        int max = Math.min(text.length(), prefix.length());
+        while (common < max && text.charAt(common) == prefix.charAt(common)) {
+            common++;
+        }
+        while (prefix.length() > common) {
+            backspace();
+        }
+        for (int i = common; i < text.length(); i++) {
+            append(text.charAt(i));
+        }
+    }
+
+    /**
+     * Gets the current prefix
+     *
+     * @return the text typed so far
+     */
+    public String getPrefix() {
+        return prefix.toString();
+    }
+
+    /**
+     * Returns the k highest-weighted allowed suggestions for the current prefix, best first,
+     * the same as {@link Autocomplete#getTopSuggestions(String, int, BitSet)}
+     *
+     * @return up to k {@link ITerm} objects, read-only
+     */
+    public List<ITerm> getTopSuggestions() {
+        int depth = prefix.length();
+        List<ITerm> known = results.get(depth);
+        if (known != null) {
+            return known;
+        }
+
+        Node node = path.get(depth);
+        List<ITerm> found;
+        if (node == null) {
+            found = Collections.emptyList();
+        } else if (depth > 0 && results.get(depth - 1) != null) {
+            found = narrow(results.get(depth - 1), depth - 1);
+            if (found == null) {
+                found = autocomplete.getTopSuggestions(node, k, allowed); // too few left, search the subtree
+            }
+        } else {
+            found = autocomplete.getTopSuggestions(node, k, allowed);
+        }
+        found = Collections.unmodifiableList(found);
+        results.set(depth, found);
+        return found;
+    }
+
+    /**
+     * Keeps the suggestions of the shorter prefix that match the character at a position
+     *
+     * @param shorter  the suggestions of the prefix one character shorter
+     * @param position the position of the new character
+     * @return the suggestions for the new prefix, or {@code null} if they cannot be told from {@code shorter}
+     */
+    private List<ITerm> narrow(List<ITerm> shorter, int position) {
+        char c = Character.toLowerCase(prefix.charAt(position));
+        List<ITerm> matching = new ArrayList<>();
+        for (ITerm term : shorter) {
+            String title = term.getTerm();
+            if (title.length() > position && Character.toLowerCase(title.charAt(position)) == c) {
+                matching.add(term);
+            }
+        }
+        // a shorter list holds every term of its prefix, and a full match holds the k best
+        if (shorter.size() < k || matching.size() == k) {
+            return matching;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,119 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@link SuggestionSession} class, checked against fresh
+ * {@link Autocomplete#getTopSuggestions(String, int)} lookups.
+ */
+public class SuggestionSessionTest {
+    private Autocomplete autocomplete;
+
+    /**
+     * Builds a small trie with titles sharing long prefixes and some equal weights
+     */
+    @Before
+    public void setUp() {
+        autocomplete = new Autocomplete();
+        String[] titles = {"Star Wars", "Star Trek", "Stardust", "Starship Troopers", "Stargate",
+                "Star Trek Beyond", "Stand by Me", "Stalker", "Up", "Upside Down", "Alien", "Aliens"};
+        double[] weights = {90, 80, 30, 40, 40, 60, 20, 10, 70, 15, 50, 50};
+        for (int i = 0; i < titles.length; i++) {
+            Movie movie = new Movie(titles[i], 2000 + i, List.of(), "", "", "", "", List.of());
+            autocomplete.addWord(titles[i], movie, weights[i]);
+        }
+    }
+
+    /**
+     * Tests that typing and deleting characters gives the same suggestions as a fresh lookup.
+     */
+    @Test
+    public void testTypingMatchesFreshLookup() {
+        SuggestionSession session = autocomplete.newSession(3);
+        for (char c : "star t".toCharArray()) {
+            session.append(c);
+            assertSameTerms(autocomplete.getTopSuggestions(session.getPrefix(), 3), session.getTopSuggestions());
+        }
+        assertEquals("Star Trek", session.getTopSuggestions().get(0).getTerm());
+
+        session.backspace();
+        session.backspace();
+        assertEquals("star", session.getPrefix());
+        assertSameTerms(autocomplete.getTopSuggestions("star", 3), session.getTopSuggestions());
+    }
+
+    /**
+     * Tests that random edits keep the session in step with fresh lookups.
+     */
+    @Test
+    public void testRandomEditsMatchFreshLookup() {
+        Random random = new Random(7);
+        String[] texts = {"", "s", "St", "star", "Star W", "stardust", "sta", "up", "Upside", "alien", "xyz", "Star Trek B"};
+        SuggestionSession session = autocomplete.newSession(2);
+        for (int i = 0; i < 200; i++) {
+            String text = texts[random.nextInt(texts.length)];
+            session.setPrefix(text);
+            assertEquals(text, session.getPrefix());
+            assertSameTerms(autocomplete.getTopSuggestions(text, 2), session.getTopSuggestions());
+        }
+    }
+
+    /**
+     * Tests that a session with allowed terms gives the same suggestions as a fresh filtered lookup.
+     */
+    @Test
+    public void testAllowedTermsMatchFreshLookup() {
+        List<Movie> allowed = new ArrayList<>();
+        for (ITerm term : autocomplete.getSuggestions("")) {
+            if (term.getTerm().length() % 2 == 0) {
+                allowed.add(term.getMovie());
+            }
+        }
+        autocomplete.freeze();
+        BitSet bits = autocomplete.getTermBits(allowed);
+        SuggestionSession session = autocomplete.newSession(2, bits);
+        for (String text : new String[]{"s", "st", "sta", "star", "star t", "sta", "stan", "u", "up"}) {
+            session.setPrefix(text);
+            assertSameTerms(autocomplete.getTopSuggestions(text, 2, bits), session.getTopSuggestions());
+            for (ITerm term : session.getTopSuggestions()) {
+                assertTrue(allowed.contains(term.getMovie()));
+            }
+        }
+    }
+
+    /**
+     * Tests that text that leaves the trie has no suggestions, and that deleting back into it does.
+     */
+    @Test
+    public void testUnknownPrefix() {
+        SuggestionSession session = autocomplete.newSession(5);
+        session.setPrefix("upx");
+        assertTrue(session.getTopSuggestions().isEmpty());
+        session.append('y');
+        assertTrue(session.getTopSuggestions().isEmpty());
+        session.backspace();
+        session.backspace();
+        assertEquals(2, session.getTopSuggestions().size());
+    }
+
+    /**
+     * Asserts that two suggestion lists hold the same titles in the same order
+     */
+    private static void assertSameTerms(List<ITerm> expected, List<ITerm> actual) {
+        assertEquals(titles(expected), titles(actual));
+    }
+
+    private static List<String> titles(List<ITerm> terms) {
+        List<String> titles = new ArrayList<>();
+        for (ITerm term : terms) {
+            titles.add(term.getTerm());
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,132 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every distinct name a dense int id, starting at 0 in the order names are first seen.
+ * <p>
+ * There is one global table for people (actors and crew) and one for genres, so that the same
+ * actor has the same id in every movie and connection checks can compare ints instead of strings.
+ * The table also keeps the first String seen for each name, so movies can share one instance of
+ * every name instead of each holding its own copy.
+ * <p>
+ * Lookups are lock-free and safe from any thread. Adding a new name takes a lock, which is fine
+ * because names stop being new after the first few thousand movies of an import.
+ */
+public class SymbolTable {
+    /** The id of {@code null}, i.e. no name */
+    public static final int NONE = -1;
+
+    /** Actors, directors, writers, cinematographers and composers */
+    public static final SymbolTable PEOPLE = new SymbolTable();
+    /** Genre names; kept apart from people so genre ids stay small */
+    public static final SymbolTable GENRES = new SymbolTable();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // names by id; replaced by a bigger copy when full, published after the id is assigned
+    private volatile String[] names = new String[64];
+    private int size;
+
+    /**
+     * Returns the id of a name, adding the name if it is new
+     *
+     * @param name the name, may be {@code null}
+     * @return its id, or {@link #NONE} for {@code null}
+     */
+    public int intern(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            String[] current = names;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+                names = current;
+            }
+            current[size] = name;
+            // the id only becomes visible to other threads once its name is stored
+            ids.put(name, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Returns the id of a name without adding it
+     *
+     * @param name the name, may be {@code null}
+     * @return its id, or {@link #NONE} if the name has never been interned
+     */
+    public int find(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer id = ids.get(name);
+        return id == null ? NONE : id;
+    }
+
+    /**
+     * Returns the name of an id
+     *
+     * @param id an id returned by {@link #intern}
+     * @return the first String interned under that id, or {@code null} for {@link #NONE}
+     */
+    public String name(int id) {
+        return id == NONE ? null : names[id];
+    }
+
+    /**
+     * Returns the shared instance of a name, adding it if it is new
+     *
+     * @param name the name, may be {@code null}
+     * @return an equal String shared by everyone who interned the name
+     */
+    public String canonical(String name) {
+        return name(intern(name));
+    }
+
+    /**
+     * Interns a list of names
+     *
+     * @param names the names, may be {@code null} or contain {@code null}
+     * @return the distinct ids of the non-null names, sorted ascending
+     */
+    public int[] internAll(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new int[0];
+        }
+        int[] result = new int[names.size()];
+        int count = 0;
+        for (String name : names) {
+            if (name != null) {
+                result[count++] = intern(name);
+            }
+        }
+        Arrays.sort(result, 0, count);
+        // drop duplicates, e.g. an actor credited twice
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return distinct == result.length ? result : Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Returns the number of names in the table
+     *
+     * @return the number of ids handed out
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
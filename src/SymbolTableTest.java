@@ -0,0 +1,81 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class SymbolTableTest {
+
+    @Test
+    public void testInternGivesDenseIds() {
+        SymbolTable table = new SymbolTable();
+        assertEquals(0, table.intern("Tom Hanks"));
+        assertEquals(1, table.intern("Meg Ryan"));
+        assertEquals(0, table.intern(new String("Tom Hanks")));
+        assertEquals(SymbolTable.NONE, table.intern(null));
+        assertEquals(2, table.size());
+        assertEquals("Meg Ryan", table.name(1));
+        assertNull(table.name(SymbolTable.NONE));
+    }
+
+    @Test
+    public void testFindDoesNotAdd() {
+        SymbolTable table = new SymbolTable();
+        assertEquals(SymbolTable.NONE, table.find("Tom Hanks"));
+        assertEquals(0, table.size());
+        table.intern("Tom Hanks");
+        assertEquals(0, table.find("Tom Hanks"));
+    }
+
+    @Test
+    public void testCanonicalSharesFirstInstance() {
+        SymbolTable table = new SymbolTable();
+        String first = new String("Drama");
+        table.intern(first);
+        assertSame(first, table.canonical(new String("Drama")));
+        assertNull(table.canonical(null));
+    }
+
+    @Test
+    public void testInternAllSortsAndDropsDuplicates() {
+        SymbolTable table = new SymbolTable();
+        table.intern("C");
+        table.intern("B");
+        table.intern("A");
+        assertArrayEquals(new int[]{0, 1, 2}, table.internAll(Arrays.asList("A", "C", null, "B", "A")));
+        assertArrayEquals(new int[0], table.internAll(null));
+    }
+
+    @Test
+    public void testConcurrentInternAgrees() throws Exception {
+        SymbolTable table = new SymbolTable();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    int[] ids = new int[1000];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = table.intern("Person " + i);
+                    }
+                    return ids;
+                }));
+            }
+            int[] first = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(first, result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Person " + i, table.name(table.find("Person " + i)));
+        }
+    }
+}
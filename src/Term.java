@@ -9,15 +9,29 @@ public class Term implements ITerm {
     String term;
     //movie
     Movie movie;
+    //ranking weight, higher comes first in top suggestions
+    double weight;
 
     /**
-     * Constructs a Term with term and movie
+     * Constructs a Term with term and movie and a weight of 0
      *
      * @param term  the text of the term we are looking for - testing for null
      * @param movie the Movie object related to term - testing for null
      * @throws IllegalArgumentException if term or movie is null
      */
     public Term(String term, Movie movie) {
+        this(term, movie, 0);
+    }
+
+    /**
+     * Constructs a Term with term, movie and ranking weight
+     *
+     * @param term   the text of the term we are looking for - testing for null
+     * @param movie  the Movie object related to term - testing for null
+     * @param weight the ranking weight, e.g. the movie's popularity
+     * @throws IllegalArgumentException if term or movie is null
+     */
+    public Term(String term, Movie movie, double weight) {
         if (term == null) {
             throw new IllegalArgumentException("Illegal argument term = 0 ");
         }
@@ -27,6 +41,7 @@ public class Term implements ITerm {
 
         this.term = term;
         this.movie = movie;
+        this.weight = weight;
     }
 
     /**
@@ -61,6 +76,16 @@ public class Term implements ITerm {
         return movie;
     }
 
+    /**
+     * Returns the ranking weight of the term
+     *
+     * @return the weight
+     */
+    @Override
+    public double getWeight() {
+        return weight;
+    }
+
     /**
      * Returns the string(text) of the term
      *
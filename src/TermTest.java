@@ -87,4 +87,12 @@ public class TermTest {
         Term t2 = new Term("y", movie);
         assertEquals(true, t1.compareTo(t2) > 0);
     }
+
+    @org.junit.Test
+    public void testWeight() {
+        Movie movie = new Movie("Harry Potter", 2000, new ArrayList<>(), "Director", "Writer", "Cinematographer", "Composer", new ArrayList<>());
+        Term heavy = new Term("b", movie, 7.0);
+        assertEquals(0, new Term("c", movie).getWeight(), 0);
+        assertEquals(7.0, heavy.getWeight(), 0);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What the parts of the turn screen that change while a player types should show:
+ * the typed input, the suggestions and the timer.
+ * <p>
+ * Instances never change, so any thread can hand one to the {@link RenderLoop};
+ * the {@code with...} methods return updated copies.
+ */
+public final class TurnViewModel {
+    private final String input;
+    private final List<String> suggestions;
+    private final int secondsRemaining;
+
+    /**
+     * Creates a view model
+     *
+     * @param input            the text the player has typed
+     * @param suggestions      the suggested titles, copied
+     * @param secondsRemaining the seconds left in the turn
+     */
+    public TurnViewModel(String input, List<String> suggestions, int secondsRemaining) {
+        this.input = input;
+        this.suggestions = Collections.unmodifiableList(List.copyOf(suggestions));
+        this.secondsRemaining = secondsRemaining;
+    }
+
+    /**
+     * Gets the text the player has typed
+     *
+     * @return the input
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the suggested titles
+     *
+     * @return the suggestions, read-only
+     */
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    /**
+     * Gets the seconds left in the turn
+     *
+     * @return the seconds remaining
+     */
+    public int getSecondsRemaining() {
+        return secondsRemaining;
+    }
+
+    /**
+     * Returns a copy with other input
+     *
+     * @param input the new input
+     * @return the updated view model
+     */
+    public TurnViewModel withInput(String input) {
+        return new TurnViewModel(input, suggestions, secondsRemaining);
+    }
+
+    /**
+     * Returns a copy with other suggestions
+     *
+     * @param suggestions the new suggestions
+     * @return the updated view model
+     */
+    public TurnViewModel withSuggestions(List<String> suggestions) {
+        return new TurnViewModel(input, suggestions, secondsRemaining);
+    }
+
+    /**
+     * Returns a copy with another time left
+     *
+     * @param secondsRemaining the new seconds remaining
+     * @return the updated view model
+     */
+    public TurnViewModel withSecondsRemaining(int secondsRemaining) {
+        return new TurnViewModel(input, suggestions, secondsRemaining);
+    }
+}
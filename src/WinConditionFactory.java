@@ -0,0 +1,114 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Creates the win conditions players can choose from: a random genre, actor or director,
+ * with a required count set by the difficulty.
+ * Used by the game's setup screen and by simulations, so both pick conditions the same way.
+ */
+public class WinConditionFactory {
+    /** Win condition choices, numbered as on the setup screen */
+    public static final int GENRE = 1;
+    public static final int ACTOR = 2;
+    public static final int DIRECTOR = 3;
+
+    /** Difficulty choices, numbered as on the setup screen */
+    public static final int EASY = 1;
+    public static final int MEDIUM = 2;
+    public static final int HARD = 3;
+
+    private final MovieDatabase movieDatabase;
+    // names to pick from for each choice, looked up the first time they are needed
+    private List<String> genres;
+    private List<String> actors;
+    private List<String> directors;
+
+    /**
+     * Creates a factory drawing names from a database
+     *
+     * @param movieDatabase the database whose genres, actors and directors can be picked
+     */
+    public WinConditionFactory(MovieDatabase movieDatabase) {
+        this.movieDatabase = movieDatabase;
+    }
+
+    /**
+     * Returns how many matching movies a difficulty asks for.
+     *
+     * @param difficulty {@link #EASY}, {@link #MEDIUM} or {@link #HARD}
+     * @return 3, 5 or 7; 5 for an unknown difficulty
+     */
+    public static int getRequiredCount(int difficulty) {
+        return switch (difficulty) {
+            case EASY -> 3;
+            case MEDIUM -> 5;
+            case HARD -> 7;
+            default -> 5;
+        };
+    }
+
+    /**
+     * Creates a win condition with a random genre, actor or director.
+     *
+     * @param choice     {@link #GENRE}, {@link #ACTOR} or {@link #DIRECTOR}
+     * @param difficulty {@link #EASY}, {@link #MEDIUM} or {@link #HARD}
+     * @param random     the random source to pick the name with
+     * @return the win condition; an "Action" genre condition for an unknown choice
+     */
+    public WinConditionStrategy create(int choice, int difficulty, Random random) {
+        int count = getRequiredCount(difficulty);
+        return switch (choice) {
+            case GENRE -> new GenreWinCondition(pick(GENRE, random), count);
+            case ACTOR -> new ActorWinCondition(pick(ACTOR, random), count);
+            case DIRECTOR -> new DirectorWinCondition(pick(DIRECTOR, random), count);
+            default -> new GenreWinCondition("Action", count);
+        };
+    }
+
+    /**
+     * Picks a random name for a choice
+     *
+     * @param choice the win condition choice
+     * @param random the random source
+     * @return the name
+     */
+    private String pick(int choice, Random random) {
+        List<String> names = getNames(choice);
+        return names.get(random.nextInt(names.size()));
+    }
+
+    /**
+     * Gets the names for a choice, sorted so that seeded picks are the same on every run
+     *
+     * @param choice the win condition choice
+     * @return the genres, the actors in 10+ movies or the directors of 10+ movies
+     */
+    private synchronized List<String> getNames(int choice) {
+        switch (choice) {
+            case GENRE:
+                if (genres == null) genres = sorted(movieDatabase.getAllGenres());
+                return genres;
+            case ACTOR:
+                if (actors == null) actors = sorted(movieDatabase.getAllActors());
+                return actors;
+            default:
+                if (directors == null) directors = sorted(movieDatabase.getAllDirectors());
+                return directors;
+        }
+    }
+
+    /**
+     * Copies a set of names into a sorted list
+     *
+     * @param names the names
+     * @return the names in alphabetical order
+     */
+    private static List<String> sorted(Set<String> names) {
+        List<String> list = new ArrayList<>(names);
+        Collections.sort(list);
+        return list;
+    }
+}
@@ -21,4 +21,33 @@ public interface WinConditionStrategy {
      * @return a string representing the win condition type
      */
     String getConditionType();
+
+    /**
+     * Called when the strategy is given to a player, so it can start counting that player's movies.
+     * The player may already have played movies, which the strategy should count once here.
+     * Strategies that simply scan the player's movies in {@link #isSatisfied} can ignore this.
+     *
+     * @param player the player the strategy now belongs to
+     */
+    default void onAttach(Player player) {
+    }
+
+    /**
+     * Called each time the player this strategy belongs to plays a new movie,
+     * so progress can be kept up to date one movie at a time instead of rescanning them all.
+     *
+     * @param movie the movie just played
+     */
+    default void onMoviePlayed(Movie movie) {
+    }
+
+    /**
+     * Returns how far the player is towards this condition, e.g. 2 of 3 comedies played.
+     *
+     * @param player the player to check
+     * @return the number of qualifying movies played, or {@code -1} if the strategy does not count movies
+     */
+    default int getProgress(Player player) {
+        return -1;
+    }
 }
@@ -16,14 +16,9 @@ public class WriterConnection implements ConnectionStrategy {
      */
     @Override
     public boolean areConnected(Movie a, Movie b) {
-        String writerA = a.getWriter();
-        String writerB = b.getWriter();
-
-        // if it is null, then just return false
-        if (writerA == null || writerB == null) {
-            return false;
-        }
-        return writerA.equals(writerB);
+        // same name means same id; if it is null (NONE), then just return false
+        int writerA = a.getWriterId();
+        return writerA != SymbolTable.NONE && writerA == b.getWriterId();
     }
     /**
      * Returns the type of connection this strategy represents.
@@ -47,8 +42,6 @@ public class WriterConnection implements ConnectionStrategy {
      * */
      @Override
     public String getSharedElement(Movie a, Movie b) {
-        String writerA = a.getWriter();
-        String writerB = b.getWriter();
-        return (writerA != null && writerB != null && writerA.equals(writerB)) ? writerA : null;
+        return areConnected(a, b) ? a.getWriter() : null;
     }
 }